@@ -0,0 +1,43 @@
+package org.example.Broomate.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Slf4j
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    public static final String DOMAIN_EVENT_EXECUTOR = "domainEventExecutor";
+
+    @Value("${broomate.events.executor.core-pool-size:2}")
+    private int corePoolSize;
+
+    @Value("${broomate.events.executor.max-pool-size:4}")
+    private int maxPoolSize;
+
+    @Value("${broomate.events.executor.queue-capacity:1000}")
+    private int queueCapacity;
+
+    /**
+     * Bounded executor for async domain event listeners (WebSocket notifications etc.)
+     * When the queue is full the event is dropped and logged instead of blocking the request thread.
+     */
+    @Bean(name = DOMAIN_EVENT_EXECUTOR)
+    public ThreadPoolTaskExecutor domainEventExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("domain-event-");
+        executor.setRejectedExecutionHandler((task, pool) ->
+                log.warn("Domain event queue is full ({} pending), dropping event task", pool.getQueue().size()));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+}
@@ -0,0 +1,122 @@
+package org.example.Broomate.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.Broomate.dto.response.ErrorResponse;
+import org.example.Broomate.service.TenantRateLimiter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies the per-tenant rate limit to write requests (POST/PUT/PATCH/DELETE).
+ * Rejected requests get 429 with a Retry-After header and are counted in
+ * the "broomate.ratelimit.rejections" metric. Each request costs one permit here;
+ * batch endpoints charge the rest of their items through {@link #chargeAdditional}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private static final String REJECTIONS_METRIC = "broomate.ratelimit.rejections";
+
+    private final TenantRateLimiter rateLimiter;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws Exception {
+        HttpMethod method = HttpMethod.valueOf(request.getMethod());
+        if (HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method) || HttpMethod.OPTIONS.equals(method)) {
+            return true;
+        }
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof CustomUserDetails userDetails)) {
+            return true;
+        }
+
+        long waitNanos = rateLimiter.tryAcquire(userDetails.getUserId());
+        if (waitNanos == 0) {
+            return true;
+        }
+
+        String endpoint = endpointOf(request);
+        long retryAfterSeconds = toRetryAfterSeconds(waitNanos);
+        log.warn("Rate limit exceeded for tenant {} on {} {}, retry after {}s",
+                userDetails.getUserId(), request.getMethod(), endpoint, retryAfterSeconds);
+
+        rejectionCounter(endpoint).increment();
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new ErrorResponse(
+                "Too many requests. Please retry after " + retryAfterSeconds + " seconds",
+                "RATE_LIMITED",
+                Instant.now().toString()));
+        return false;
+    }
+
+    /**
+     * Charge permits on top of the one taken in preHandle, before the handler writes anything.
+     * Used where the cost is only known once the body is bound, e.g. one permit per batch item.
+     *
+     * @throws ResponseStatusException 400 when the total can never fit in the bucket
+     * @throws RateLimitExceededException 429 with Retry-After when the permits are not available yet
+     */
+    public void chargeAdditional(String userId, int totalPermits, String endpoint) {
+        if (totalPermits > rateLimiter.getBurst()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "At most " + rateLimiter.getBurst() + " items can be submitted at once");
+        }
+        if (totalPermits <= 1) {
+            return;
+        }
+
+        long waitNanos = rateLimiter.tryAcquire(userId, totalPermits - 1);
+        if (waitNanos == 0) {
+            return;
+        }
+
+        long retryAfterSeconds = toRetryAfterSeconds(waitNanos);
+        log.warn("Rate limit exceeded for tenant {} on {} ({} permits), retry after {}s",
+                userId, endpoint, totalPermits, retryAfterSeconds);
+
+        rejectionCounter(endpoint).increment();
+        throw new RateLimitExceededException(retryAfterSeconds);
+    }
+
+    private long toRetryAfterSeconds(long waitNanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+    }
+
+    private Counter rejectionCounter(String endpoint) {
+        return Counter.builder(REJECTIONS_METRIC)
+                .description("Requests rejected by the per-tenant rate limiter")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+    }
+
+    private String endpointOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : request.getRequestURI();
+    }
+}
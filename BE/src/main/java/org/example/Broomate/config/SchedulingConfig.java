@@ -0,0 +1,12 @@
+package org.example.Broomate.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled background jobs (index persistence, counter flushes)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
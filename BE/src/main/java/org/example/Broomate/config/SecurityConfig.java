@@ -101,6 +101,7 @@ public class SecurityConfig {
                 "Authorization", 
                 "Content-Type",
                 "Content-Disposition",
+                "ETag",
                 "Access-Control-Allow-Origin",
                 "Access-Control-Allow-Credentials"
         )); // Expose important headers
@@ -1,13 +1,19 @@
 package org.example.Broomate.config;
 
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
+
+    private final RateLimitInterceptor rateLimitInterceptor;
+
     // CORS is handled by SecurityConfig.corsConfigurationSource()
     // This method is disabled to avoid conflicts
     // @Override
@@ -19,6 +25,13 @@ public class WebConfig implements WebMvcConfigurer {
     //             .allowCredentials(true);
     // }
 
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // Per-tenant rate limit on tenant write endpoints (swipe, profile, bookmarks)
+        registry.addInterceptor(rateLimitInterceptor)
+                .addPathPatterns("/api/tenant/**");
+    }
+
     @Bean
     public RestTemplate restTemplate() {
         return new RestTemplate();
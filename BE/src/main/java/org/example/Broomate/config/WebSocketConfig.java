@@ -1,6 +1,12 @@
 package org.example.Broomate.config;
 
 import lombok.extern.slf4j.Slf4j;
+import org.example.Broomate.event.TenantSessionStartedEvent;
+import org.example.Broomate.service.PresenceRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
@@ -10,6 +16,7 @@ import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
@@ -24,17 +31,33 @@ import java.util.List;
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final JwtUtil jwtUtil;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PresenceRegistry presenceRegistry;
+    private TaskScheduler messageBrokerTaskScheduler;
 
     // ✅ Add explicit constructor with logging
-    public WebSocketConfig(JwtUtil jwtUtil) {
+    public WebSocketConfig(JwtUtil jwtUtil, ApplicationEventPublisher eventPublisher, PresenceRegistry presenceRegistry) {
         this.jwtUtil = jwtUtil;
+        this.eventPublisher = eventPublisher;
+        this.presenceRegistry = presenceRegistry;
         log.info("🔧 WebSocketConfig initialized with JwtUtil: {}", jwtUtil != null ? "✅ SUCCESS" : "❌ NULL");
     }
 
+    /**
+     * The broker's own scheduler drives STOMP heartbeats; lazy because it is created by this configuration
+     */
+    @Autowired
+    public void setMessageBrokerTaskScheduler(@Lazy @Qualifier("messageBrokerTaskScheduler") TaskScheduler taskScheduler) {
+        this.messageBrokerTaskScheduler = taskScheduler;
+    }
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         log.info("🔧 Configuring message broker...");
-        config.enableSimpleBroker("/topic", "/queue");
+        // Heartbeats keep presence fresh (see PresenceRegistry) and detect dead connections
+        config.enableSimpleBroker("/topic", "/queue")
+                .setHeartbeatValue(new long[]{10000, 10000})
+                .setTaskScheduler(messageBrokerTaskScheduler);
         config.setApplicationDestinationPrefixes("/app");
         config.setUserDestinationPrefix("/user");
     }
@@ -88,6 +111,13 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                                 
                                 log.info("✅ WebSocket authenticated for user: {} with role: {}", userId, role);
                                 log.info("🎯 Authentication principal name: {}", authentication.getName());
+
+                                // Warm up the swipe deck while the client subscribes
+                                if ("TENANT".equals(role)) {
+                                    eventPublisher.publishEvent(TenantSessionStartedEvent.builder()
+                                            .tenantId(userId)
+                                            .build());
+                                }
                             } else {
                                 log.warn("⚠️ No userId found in JWT token");
                             }
@@ -100,6 +130,11 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 } else {
                     log.debug("📨 Non-CONNECT message: {}", accessor != null ? accessor.getCommand() : "NULL");
                 }
+
+                // Any inbound frame, heartbeats included, counts as presence activity
+                if (accessor != null && accessor.getSessionId() != null) {
+                    presenceRegistry.touch(accessor.getSessionId());
+                }
                 
                 return message;
             }
@@ -1,25 +1,39 @@
 package org.example.Broomate.config;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.Broomate.service.PresenceRegistry;
 import org.springframework.context.event.EventListener;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.messaging.SessionConnectedEvent;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 
+import java.security.Principal;
+
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class WebSocketEventListener {
 
+    private final PresenceRegistry presenceRegistry;
+
     @EventListener
     public void handleWebSocketConnectListener(SessionConnectedEvent event) {
         StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
         log.info("New WebSocket connection - Session ID: {}", headerAccessor.getSessionId());
+
+        Principal user = event.getUser();
+        if (user != null && headerAccessor.getSessionId() != null) {
+            presenceRegistry.connected(user.getName(), headerAccessor.getSessionId());
+        }
     }
 
     @EventListener
     public void handleWebSocketDisconnectListener(SessionDisconnectEvent event) {
         StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
         log.info("WebSocket disconnected - Session ID: {}", headerAccessor.getSessionId());
+
+        presenceRegistry.disconnected(event.getSessionId());
     }
-}
\ No newline at end of file
+}
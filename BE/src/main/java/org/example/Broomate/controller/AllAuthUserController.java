@@ -12,11 +12,22 @@ import jakarta.validation.Valid;
 
 import org.example.Broomate.config.CustomUserDetails;
 import org.example.Broomate.dto.request.allAuthUser.ChangePasswordRequest;
+import org.example.Broomate.dto.request.allAuthUser.MarkAsReadRequest;
 import org.example.Broomate.dto.request.allAuthUser.SendMessageRequest;
 import org.example.Broomate.dto.response.*;
 import org.example.Broomate.dto.response.allAuthUser.*;
+import org.example.Broomate.index.RoomFilter;
 import org.example.Broomate.service.AllAuthUserService;
+import org.example.Broomate.service.MessageSearchService;
+import org.example.Broomate.service.PresenceRegistry;
+import org.example.Broomate.service.ReadReceiptService;
+import org.example.Broomate.service.ResourceVersionCache;
+import org.example.Broomate.service.RoomFeedService;
+import org.example.Broomate.service.RoomSearchService;
+import org.example.Broomate.service.RoomStatsService;
+import org.example.Broomate.util.ETags;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -26,6 +37,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/user")
@@ -36,56 +48,110 @@ public class AllAuthUserController {
     @Autowired
     private AllAuthUserService allAuthUserService;
 
+    @Autowired
+    private RoomSearchService roomSearchService;
+
+    @Autowired
+    private ResourceVersionCache resourceVersionCache;
+
+    @Autowired
+    private RoomStatsService roomStatsService;
+
+    @Autowired
+    private RoomFeedService roomFeedService;
+
+    @Autowired
+    private ReadReceiptService readReceiptService;
+
+    @Autowired
+    private PresenceRegistry presenceRegistry;
+
+    @Autowired
+    private MessageSearchService messageSearchService;
+
     /**
      * 1. GET ALL CONVERSATIONS
      */
     @Operation(summary = "Get all conversations",
-            description = "Retrieve all conversations for the authenticated user")
+            description = "Retrieve all conversations for the authenticated user. " +
+                    "Supports If-None-Match; an unchanged list returns 304.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Conversations retrieved successfully",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = ConversationListResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Not modified since the given ETag"),
             @ApiResponse(responseCode = "401", description = "Unauthorized",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = ErrorResponse.class)))
     })
     @GetMapping("/conversations")
     public ResponseEntity<ConversationListResponse> getAllConversations(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
         String userId = userDetails.getUserId();
+        String etag = resourceVersionCache.conversationsETag(userId);
+        if (ETags.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
         ConversationListResponse response = allAuthUserService.getAllConversations(userId);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(etag).body(response);
     }
 
     /**
      * 2. GET ALL ROOMS
      */
     @Operation(summary = "Get all rooms",
-            description = "Retrieve all published rooms (for browsing)")
+            description = "Retrieve all published rooms (for browsing). Served from a pre-serialized snapshot, " +
+                    "gzip-encoded when the client accepts it. Supports If-None-Match.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Rooms retrieved successfully",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = RoomListResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Not modified since the given ETag"),
             @ApiResponse(responseCode = "401", description = "Unauthorized",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = ErrorResponse.class)))
     })
     @GetMapping("/rooms")
-    public ResponseEntity<RoomListResponse> getAllRooms(
+    public ResponseEntity<byte[]> getAllRooms(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
-        RoomListResponse response = allAuthUserService.getAllRooms();
-        return ResponseEntity.ok(response);
+        RoomFeedService.FeedSnapshot feed = roomFeedService.currentFeed();
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+        String etag = gzip ? feed.gzipETag() : feed.etag();
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (etag != null) {
+            if (ETags.matches(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(etag)
+                        .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                        .build();
+            }
+            response.eTag(etag);
+        }
+
+        // Bytes are written as-is by the byte array converter
+        return gzip
+                ? response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(feed.gzip())
+                : response.body(feed.json());
     }
 
     /**
      * 3. GET ROOM DETAIL
      */
     @Operation(summary = "Get room details",
-            description = "Retrieve detailed information about a specific room")
+            description = "Retrieve detailed information about a specific room. " +
+                    "Supports If-None-Match; an unchanged room returns 304.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Room details retrieved successfully",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = RoomDetailResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Not modified since the given ETag"),
             @ApiResponse(responseCode = "404", description = "Room not found",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = ErrorResponse.class)))
@@ -93,8 +159,205 @@ public class AllAuthUserController {
     @GetMapping("/rooms/{roomId}")
     public ResponseEntity<RoomDetailResponse> getRoomDetail(
             @PathVariable String roomId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
+        // Published rooms are answered from the room directory without a Firestore read
+        String cachedETag = resourceVersionCache.findRoomETag(roomId).orElse(null);
+        if (ETags.matches(ifNoneMatch, cachedETag)) {
+            roomStatsService.recordView(roomId);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(cachedETag).build();
+        }
+
+        // Only rooms that resolved are counted, so made-up IDs never reach the view buffer
         RoomDetailResponse response = allAuthUserService.getRoomDetail(roomId);
+        roomStatsService.recordView(roomId);
+        return ResponseEntity.ok()
+                .eTag(ResourceVersionCache.roomETag(roomId, response.getUpdatedAt()))
+                .body(response);
+    }
+
+    /**
+     * 3.1. GET ROOMS NEAR A POINT
+     */
+    @Operation(summary = "Get rooms near a location",
+            description = "Published rooms within a radius of a point, nearest first, with their distance")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Rooms retrieved successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = RoomListResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid coordinates or radius",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/rooms/nearby")
+    public ResponseEntity<RoomListResponse> getNearbyRooms(
+            @Parameter(description = "Latitude", required = true, example = "10.7769")
+            @RequestParam Double lat,
+
+            @Parameter(description = "Longitude", required = true, example = "106.7009")
+            @RequestParam Double lng,
+
+            @Parameter(description = "Search radius in km (max 50)", example = "5")
+            @RequestParam(required = false) Double radiusKm,
+
+            @Parameter(description = "Maximum number of rooms (max 200)", example = "50")
+            @RequestParam(required = false) Integer limit) {
+        RoomListResponse response = roomSearchService.findNearby(lat, lng, radiusKm, limit);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 3.2. GET ROOMS INSIDE A BOUNDING BOX
+     */
+    @Operation(summary = "Get rooms inside a map area",
+            description = "Published rooms inside a bounding box, nearest to its centre first")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Rooms retrieved successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = RoomListResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid bounding box",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/rooms/within")
+    public ResponseEntity<RoomListResponse> getRoomsWithinBounds(
+            @Parameter(description = "South latitude", required = true, example = "10.70")
+            @RequestParam Double minLat,
+
+            @Parameter(description = "West longitude", required = true, example = "106.60")
+            @RequestParam Double minLng,
+
+            @Parameter(description = "North latitude", required = true, example = "10.85")
+            @RequestParam Double maxLat,
+
+            @Parameter(description = "East longitude", required = true, example = "106.80")
+            @RequestParam Double maxLng,
+
+            @Parameter(description = "Maximum number of rooms (max 200)", example = "50")
+            @RequestParam(required = false) Integer limit) {
+        RoomListResponse response = roomSearchService.findWithinBounds(minLat, minLng, maxLat, maxLng, limit);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 3.3. SEARCH ROOMS BY ATTRIBUTES
+     */
+    @Operation(summary = "Search rooms by attributes",
+            description = "Filter published rooms by any combination of price range, minimum stay, " +
+                    "bedrooms, toilets and window. Results are paginated.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Rooms retrieved successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = RoomSearchResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid filter (e.g. minimum above maximum)",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/rooms/search")
+    public ResponseEntity<RoomSearchResponse> searchRooms(
+            @Parameter(description = "Minimum rent per month", example = "3000000")
+            @RequestParam(required = false) Double minPrice,
+
+            @Parameter(description = "Maximum rent per month", example = "7000000")
+            @RequestParam(required = false) Double maxPrice,
+
+            @Parameter(description = "Only rooms whose minimum stay is at most this many months", example = "6")
+            @RequestParam(required = false) Integer maxMinimumStayMonths,
+
+            @Parameter(description = "Minimum number of bedrooms", example = "1")
+            @RequestParam(required = false) Integer minBedRooms,
+
+            @Parameter(description = "Maximum number of bedrooms", example = "3")
+            @RequestParam(required = false) Integer maxBedRooms,
+
+            @Parameter(description = "Minimum number of toilets", example = "1")
+            @RequestParam(required = false) Integer minToilets,
+
+            @Parameter(description = "Maximum number of toilets", example = "2")
+            @RequestParam(required = false) Integer maxToilets,
+
+            @Parameter(description = "Only rooms with (true) or without (false) a window")
+            @RequestParam(required = false) Boolean hasWindow,
+
+            @Parameter(description = "Sort order", example = "PRICE_ASC")
+            @RequestParam(required = false, defaultValue = "NEWEST") RoomFilter.Sort sort,
+
+            @Parameter(description = "Page number (0-based)", example = "0")
+            @RequestParam(required = false) Integer page,
+
+            @Parameter(description = "Page size (max 100)", example = "20")
+            @RequestParam(required = false) Integer size) {
+        RoomFilter filter = RoomFilter.builder()
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .maxMinimumStayMonths(maxMinimumStayMonths)
+                .minBedRooms(minBedRooms)
+                .maxBedRooms(maxBedRooms)
+                .minToilets(minToilets)
+                .maxToilets(maxToilets)
+                .hasWindow(hasWindow)
+                .sort(sort)
+                .build();
+        RoomSearchResponse response = roomSearchService.search(filter, page, size);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 3.4. SEARCH ROOMS BY TEXT
+     */
+    @Operation(summary = "Search rooms by text",
+            description = "Full-text search over room title, description and address, most relevant first. " +
+                    "Vietnamese diacritics are ignored.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Rooms retrieved successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = RoomListResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Empty query",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/rooms/text-search")
+    public ResponseEntity<RoomListResponse> searchRoomsByText(
+            @Parameter(description = "Search text", required = true, example = "phong gan dai hoc quan binh thanh")
+            @RequestParam String q,
+
+            @Parameter(description = "Maximum number of rooms (max 200)", example = "50")
+            @RequestParam(required = false) Integer limit) {
+        RoomListResponse response = roomSearchService.textSearch(q, limit);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 3.5. GET MAP MARKER CLUSTERS
+     */
+    @Operation(summary = "Get room marker clusters for a map view",
+            description = "Published rooms in the visible map area aggregated into clusters (count, centre, " +
+                    "price range) for the given zoom level. A cluster of one room carries its room ID.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Clusters retrieved successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = RoomClusterListResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid bounding box or zoom",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/rooms/clusters")
+    public ResponseEntity<RoomClusterListResponse> getRoomClusters(
+            @Parameter(description = "South latitude", required = true, example = "10.70")
+            @RequestParam Double minLat,
+
+            @Parameter(description = "West longitude", required = true, example = "106.60")
+            @RequestParam Double minLng,
+
+            @Parameter(description = "North latitude", required = true, example = "10.85")
+            @RequestParam Double maxLat,
+
+            @Parameter(description = "East longitude", required = true, example = "106.80")
+            @RequestParam Double maxLng,
+
+            @Parameter(description = "Map zoom level (0-22)", required = true, example = "13")
+            @RequestParam Integer zoom) {
+        RoomClusterListResponse response = roomSearchService.findClusters(minLat, minLng, maxLat, maxLng, zoom);
         return ResponseEntity.ok(response);
     }
 
@@ -160,6 +423,78 @@ public class AllAuthUserController {
         MessageDetailResponse response = allAuthUserService.sendMessage(userId, conversationId, request, media);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
+
+    /**
+     * 5.1. MARK CONVERSATION AS READ
+     */
+    @Operation(summary = "Mark messages as read",
+            description = "Advance the caller's read watermark in a conversation: every message created at or " +
+                    "before readUpTo (default now) counts as read. Other participants receive a receipt on " +
+                    "/user/queue/receipts. The same action is available over STOMP at /app/conversations/{conversationId}/read.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Messages marked as read",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = HTTPMessageResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid readUpTo timestamp",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Not a conversation participant",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Conversation not found",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping("/conversations/{conversationId}/read")
+    public ResponseEntity<HTTPMessageResponse> markAsRead(
+            @Parameter(description = "Conversation ID", required = true)
+            @PathVariable String conversationId,
+            @RequestBody(required = false) MarkAsReadRequest request,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        String userId = userDetails.getUserId();
+        readReceiptService.markRead(userId, conversationId, request != null ? request.getReadUpTo() : null);
+        return ResponseEntity.ok(HTTPMessageResponse.builder()
+                .message("Messages marked as read")
+                .build());
+    }
+    /**
+     * 5.2. SEARCH MESSAGES
+     */
+    @Operation(summary = "Search chat history",
+            description = "Full-text search over messages in the caller's conversations, newest first. " +
+                    "All query words must appear; Vietnamese diacritics are ignored. " +
+                    "Pass conversationId to search a single conversation.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Messages retrieved successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = MessageSearchResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Empty query",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Not a conversation participant",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Conversation not found",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/messages/search")
+    public ResponseEntity<MessageSearchResponse> searchMessages(
+            @Parameter(description = "Search text", required = true, example = "tien dien")
+            @RequestParam String q,
+
+            @Parameter(description = "Only search this conversation")
+            @RequestParam(required = false) String conversationId,
+
+            @Parameter(description = "Maximum results (default 20, max 100)")
+            @RequestParam(required = false) Integer limit,
+
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        String userId = userDetails.getUserId();
+        MessageSearchResponse response = messageSearchService.searchMessages(userId, q, conversationId, limit);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 6. DEACTIVATE PROFILE
      */
@@ -204,6 +539,27 @@ public class AllAuthUserController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 8. GET PRESENCE
+     */
+    @Operation(summary = "Get online presence",
+            description = "Whether each user currently has a live WebSocket session, and when they were last active. " +
+                    "Typing indicators are sent over STOMP to /app/typing and arrive on /user/queue/typing.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Presence retrieved successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = PresenceListResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Missing user IDs or more than 100 requested",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/presence")
+    public ResponseEntity<PresenceListResponse> getPresence(
+            @Parameter(description = "User IDs to look up (max 100)", required = true, example = "user1,user2")
+            @RequestParam List<String> userIds) {
+        return ResponseEntity.ok(presenceRegistry.getPresence(userIds));
+    }
+
     /**
      * 1.5. GET CONVERSATION DETAIL WITH MESSAGES
      */
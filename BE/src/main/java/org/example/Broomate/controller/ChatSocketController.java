@@ -0,0 +1,83 @@
+package org.example.Broomate.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.Broomate.dto.request.allAuthUser.MarkAsReadRequest;
+import org.example.Broomate.dto.request.allAuthUser.TypingRequest;
+import org.example.Broomate.dto.websocket.TypingNotification;
+import org.example.Broomate.service.ReadReceiptService;
+import org.example.Broomate.service.WebSocketService;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.security.Principal;
+import java.util.List;
+
+/**
+ * STOMP endpoints under /app for chat signals sent over an open WebSocket session.
+ * The session principal name is the user ID set on CONNECT.
+ */
+@Slf4j
+@Controller
+@RequiredArgsConstructor
+public class ChatSocketController {
+
+    private final ReadReceiptService readReceiptService;
+    private final WebSocketService webSocketService;
+
+    /**
+     * Mark messages as read: /app/conversations/{conversationId}/read
+     */
+    @MessageMapping("/conversations/{conversationId}/read")
+    public void markAsRead(
+            @DestinationVariable String conversationId,
+            @Payload(required = false) MarkAsReadRequest request,
+            Principal principal) {
+        if (principal == null) {
+            log.warn("⚠️ Ignoring read receipt from unauthenticated WebSocket session");
+            return;
+        }
+
+        try {
+            readReceiptService.markRead(principal.getName(), conversationId,
+                    request != null ? request.getReadUpTo() : null);
+        } catch (ResponseStatusException e) {
+            log.warn("⚠️ Read receipt from {} for conversation {} rejected: {}",
+                    principal.getName(), conversationId, e.getReason());
+        }
+    }
+
+    /**
+     * Typing indicator: /app/typing, relayed to the other participants' /user/queue/typing
+     */
+    @MessageMapping("/typing")
+    public void typing(@Payload TypingRequest request, Principal principal) {
+        if (principal == null || request.getConversationId() == null) {
+            return;
+        }
+
+        try {
+            List<String> participantIds = readReceiptService.findParticipants(request.getConversationId());
+            if (!participantIds.contains(principal.getName())) {
+                log.warn("⚠️ Typing signal from non-participant {} for conversation {}",
+                        principal.getName(), request.getConversationId());
+                return;
+            }
+
+            List<String> recipientIds = participantIds.stream()
+                    .filter(id -> !id.equals(principal.getName()))
+                    .toList();
+
+            webSocketService.sendTypingNotification(recipientIds, TypingNotification.builder()
+                    .conversationId(request.getConversationId())
+                    .userId(principal.getName())
+                    .typing(!Boolean.FALSE.equals(request.getTyping()))
+                    .build());
+        } catch (ResponseStatusException e) {
+            log.warn("⚠️ Typing signal for conversation {} rejected: {}", request.getConversationId(), e.getReason());
+        }
+    }
+}
@@ -14,8 +14,12 @@ import org.example.Broomate.config.CustomUserDetails;
 import org.example.Broomate.dto.request.landlord.*;
 import org.example.Broomate.dto.response.ErrorResponse;
 import org.example.Broomate.dto.response.landlord.LandlordProfileResponse;
+import org.example.Broomate.dto.response.landlord.RoomSummaryPageResponse;
 import org.example.Broomate.dto.response.allAuthUser.RoomDetailResponse;
+import org.example.Broomate.dto.response.allAuthUser.RoomStatsResponse;
 import org.example.Broomate.service.LandlordService;
+import org.example.Broomate.service.ResourceVersionCache;
+import org.example.Broomate.service.RoomStatsService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -34,6 +38,7 @@ import java.util.List;
 public class LandlordController {
 
         private final LandlordService landlordService;
+        private final RoomStatsService roomStatsService;
 
         // SCENARIO 1: CREATE ROOM WITH MEDIA
         // ========================================
@@ -236,14 +241,17 @@ public class LandlordController {
                 return ResponseEntity.ok(response);
         }
 
-        @Operation(summary = "Get landlord profile")
+        @Operation(summary = "Get landlord profile", description = "Supports If-None-Match; an unchanged profile returns 304")
         // ✅ RECOMMENDED - Only allow viewing own profile
         @GetMapping("/profile")
         public ResponseEntity<LandlordProfileResponse> getProfile(
                         @AuthenticationPrincipal CustomUserDetails userDetails) {
                 String landlordId = userDetails.getUserId();
                 LandlordProfileResponse response = landlordService.getProfile(landlordId);
-                return ResponseEntity.ok(response);
+                // Spring answers 304 for a matching If-None-Match without writing the body
+                return ResponseEntity.ok()
+                                .eTag(ResourceVersionCache.landlordETag(landlordId, response.getUpdatedAt()))
+                                .body(response);
         }
 
         // ========================================
@@ -262,4 +270,40 @@ public class LandlordController {
                 List<RoomDetailResponse> rooms = landlordService.getMyRooms(landlordId);
                 return ResponseEntity.ok(rooms);
         }
-}
\ No newline at end of file
+
+        // ========================================
+        // GET ROOM SUMMARIES FOR CURRENT LANDLORD (PAGINATED)
+        // ========================================
+        @Operation(summary = "Get my rooms as paginated summaries", description = "Lightweight dashboard list (title, thumbnail, price, status, views, inquiries), newest first. Open a room for its full detail.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Rooms retrieved successfully", content = @Content(mediaType = "application/json", schema = @Schema(implementation = RoomSummaryPageResponse.class))),
+                        @ApiResponse(responseCode = "400", description = "Invalid page cursor", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+                        @ApiResponse(responseCode = "403", description = "Forbidden - User is not a landlord", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+        })
+        @GetMapping("/rooms/summaries")
+        public ResponseEntity<RoomSummaryPageResponse> getMyRoomSummaries(
+                        @Parameter(description = "Cursor from the previous page's nextCursor; omit for the first page") @RequestParam(required = false) String cursor,
+                        @Parameter(description = "Page size (max 30)", example = "20") @RequestParam(required = false) Integer size,
+                        @AuthenticationPrincipal CustomUserDetails userDetails) {
+                String landlordId = userDetails.getUserId();
+                RoomSummaryPageResponse response = landlordService.getMyRoomSummaries(landlordId, cursor, size);
+                return ResponseEntity.ok(response);
+        }
+
+        // ========================================
+        // GET ROOM STATISTICS FOR CURRENT LANDLORD
+        // ========================================
+        @Operation(summary = "Get statistics for my rooms", description = "Room counts by status plus total views and inquiries across the authenticated landlord's rooms")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Statistics retrieved successfully", content = @Content(mediaType = "application/json", schema = @Schema(implementation = RoomStatsResponse.class))),
+                        @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+                        @ApiResponse(responseCode = "403", description = "Forbidden - User is not a landlord", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+        })
+        @GetMapping("/rooms/stats")
+        public ResponseEntity<RoomStatsResponse> getMyRoomStats(
+                        @AuthenticationPrincipal CustomUserDetails userDetails) {
+                String landlordId = userDetails.getUserId();
+                RoomStatsResponse response = roomStatsService.getRoomStats(landlordId);
+                return ResponseEntity.ok(response);
+        }
+}
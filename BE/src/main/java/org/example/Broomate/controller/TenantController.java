@@ -11,14 +11,25 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.Broomate.config.CustomUserDetails;
+import org.example.Broomate.config.RateLimitInterceptor;
+import org.example.Broomate.dto.request.tenant.BatchSwipeRequest;
 import org.example.Broomate.dto.request.tenant.UpdateTenantProfileRequest;
 import org.example.Broomate.dto.request.tenant.SwipeRequest;
+import org.example.Broomate.dto.response.allAuthUser.RoomListResponse;
+import org.example.Broomate.dto.response.tenant.BatchSwipeResponse;
 import org.example.Broomate.dto.response.tenant.BookmarkResponse;
+import org.example.Broomate.dto.response.tenant.MatchStatsResponse;
+import org.example.Broomate.dto.response.tenant.SwipeHistoryResponse;
 import org.example.Broomate.dto.response.tenant.TenantProfileResponse;
 import org.example.Broomate.dto.response.tenant.TenantListResponse;
 import org.example.Broomate.dto.response.tenant.SwipeResponse;
 import org.example.Broomate.dto.response.ErrorResponse;
+import org.example.Broomate.model.Swipe;
+import org.example.Broomate.service.ResourceVersionCache;
+import org.example.Broomate.service.RoomRecommendationService;
 import org.example.Broomate.service.TenantService;
+import org.example.Broomate.util.ETags;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -37,6 +48,9 @@ import java.util.List;
 public class TenantController {
 
     private final TenantService tenantService;
+    private final RoomRecommendationService roomRecommendationService;
+    private final RateLimitInterceptor rateLimitInterceptor;
+    private final ResourceVersionCache resourceVersionCache;
 
     /**
      * GET ALL TENANTS FOR SWIPING
@@ -93,6 +107,163 @@ public class TenantController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * SWIPE TENANTS IN BATCH
+     */
+    @Operation(summary = "Submit several swipes at once",
+            description = "Replay swipes queued on the client (e.g. while offline), in order. " +
+                    "Each swipe gets its own result; invalid items are reported without failing the batch. " +
+                    "Every swipe counts against the per-tenant rate limit.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch processed",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = BatchSwipeResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Empty batch, more than 50 swipes, or more than the rate limit burst",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "429", description = "Rate limit exceeded; each swipe in the batch costs one request. See Retry-After",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping("/swipes/batch")
+    public ResponseEntity<BatchSwipeResponse> swipeTenants(
+            @Valid @RequestBody BatchSwipeRequest request,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        String swiperTenantId = userDetails.getUserId();
+        // A batch costs as much as the same swipes sent one by one
+        rateLimitInterceptor.chargeAdditional(swiperTenantId, request.getSwipes().size(), "/api/tenant/swipes/batch");
+        BatchSwipeResponse response = tenantService.swipeTenants(swiperTenantId, request.getSwipes());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * GET SIMILAR TENANTS
+     */
+    @Operation(summary = "Get tenants similar to a tenant",
+            description = "Nearest neighbours by profile (age, habits, budget, move-in date, districts). " +
+                    "Defaults to tenants similar to you.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Similar tenants retrieved successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = TenantListResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Tenant not found",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "503", description = "Index is still loading",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/similar")
+    public ResponseEntity<TenantListResponse> getSimilarTenants(
+            @Parameter(description = "Tenant to find similar profiles for (defaults to you)")
+            @RequestParam(required = false) String tenantId,
+
+            @Parameter(description = "Maximum number of tenants (max 50)", example = "10")
+            @RequestParam(required = false) Integer limit,
+
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        String targetId = tenantId != null ? tenantId : userDetails.getUserId();
+        TenantListResponse response = tenantService.getSimilarTenants(targetId, limit);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * GET TENANTS WHO LIKED ME
+     */
+    @Operation(summary = "Get people who liked you",
+            description = "Tenants who swiped right on you and are waiting for you to swipe back")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Pending likes retrieved successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = TenantListResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/likes")
+    public ResponseEntity<TenantListResponse> getPendingLikes(
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        String tenantId = userDetails.getUserId();
+        TenantListResponse response = tenantService.getPendingLikes(tenantId);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * GET MATCH STATISTICS
+     */
+    @Operation(summary = "Get my swipe and match statistics",
+            description = "Swipe counts, matches, match rate and average swipes per day for the current tenant")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Statistics retrieved successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = MatchStatsResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/stats")
+    public ResponseEntity<MatchStatsResponse> getMatchStats(
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        String tenantId = userDetails.getUserId();
+        MatchStatsResponse response = tenantService.getMatchStats(tenantId);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * GET RECOMMENDED ROOMS
+     */
+    @Operation(summary = "Get rooms recommended for me",
+            description = "Published rooms ranked against your budget, stay length, window and sharing " +
+                    "preferences and preferred districts, best match first")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Recommended rooms retrieved successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = RoomListResponse.class))),
+            @ApiResponse(responseCode = "503", description = "Index is still loading",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/rooms/recommended")
+    public ResponseEntity<RoomListResponse> getRecommendedRooms(
+            @Parameter(description = "Maximum number of rooms (max 100)", example = "20")
+            @RequestParam(required = false) Integer limit,
+
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        String tenantId = userDetails.getUserId();
+        RoomListResponse response = roomRecommendationService.getRecommendedRooms(tenantId, limit);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * GET SWIPE HISTORY (PAGINATED)
+     */
+    @Operation(summary = "Get my swipe history",
+            description = "Page through your swipes, newest first. Pass the returned nextCursor to get the next page.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Swipe history retrieved successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = SwipeHistoryResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/swipes/history")
+    public ResponseEntity<SwipeHistoryResponse> getSwipeHistory(
+            @Parameter(description = "Only return swipes with this action", example = "ACCEPT")
+            @RequestParam(required = false) Swipe.SwipeActionEnum action,
+
+            @Parameter(description = "Cursor from the previous page")
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(description = "Page size (max 100)", example = "20")
+            @RequestParam(required = false) Integer size,
+
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        String tenantId = userDetails.getUserId();
+        SwipeHistoryResponse response = tenantService.getSwipeHistory(tenantId, action, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
     // ========================================
 // UPDATE TENANT PROFILE (WITH AVATAR)
 // ========================================
@@ -189,24 +360,39 @@ public class TenantController {
         return ResponseEntity.ok(response);
     }
 
-    @Operation(summary = "Get another tenant profile details for swiping")
+    @Operation(summary = "Get another tenant profile details for swiping",
+            description = "Supports If-None-Match; an unchanged profile returns 304")
     @GetMapping("/profile/{tenantId}")
     public ResponseEntity<TenantProfileResponse> getTenantProfile(
             @Parameter(description = "Tenant ID", required = true)
-            @PathVariable String tenantId
+            @PathVariable String tenantId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
-        TenantProfileResponse response = tenantService.getTenantProfile(tenantId);
-        return ResponseEntity.ok(response);
+        return conditionalProfile(tenantId, ifNoneMatch);
     }
 
-    @Operation(summary = "Get my profile")
+    @Operation(summary = "Get my profile",
+            description = "Supports If-None-Match; an unchanged profile returns 304")
     @GetMapping("/profile")
     public ResponseEntity<TenantProfileResponse> getMyProfile(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
         String tenantId = userDetails.getUserId();
+        return conditionalProfile(tenantId, ifNoneMatch);
+    }
+
+    // Active tenants are answered from the tenant directory without a Firestore read
+    private ResponseEntity<TenantProfileResponse> conditionalProfile(String tenantId, String ifNoneMatch) {
+        String cachedETag = resourceVersionCache.findTenantETag(tenantId).orElse(null);
+        if (ETags.matches(ifNoneMatch, cachedETag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(cachedETag).build();
+        }
+
         TenantProfileResponse response = tenantService.getTenantProfile(tenantId);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .eTag(ResourceVersionCache.tenantETag(tenantId, response.getUpdatedAt()))
+                .body(response);
     }
     // ========================================
 // BOOKMARK MANAGEMENT
@@ -5,13 +5,12 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.util.List;
-
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class MarkAsReadRequest {
-    
-    @Schema(description = "List of message IDs to mark as read")
-    private List<String> messageIds;
+
+    @Schema(description = "Messages created at or before this time are marked as read (defaults to now)",
+            example = "2025-10-24T12:30:00Z")
+    private String readUpTo;
 }
@@ -0,0 +1,18 @@
+package org.example.Broomate.dto.request.allAuthUser;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TypingRequest {
+
+    @Schema(description = "Conversation the user is typing in", example = "conv123")
+    private String conversationId;
+
+    @Schema(description = "True when typing starts, false when it stops", example = "true")
+    private Boolean typing;
+}
@@ -0,0 +1,26 @@
+package org.example.Broomate.dto.request.tenant;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Swipes queued on the client, in the order they were made")
+public class BatchSwipeRequest {
+
+    @NotEmpty(message = "At least one swipe is required")
+    @Size(max = 50, message = "A batch cannot contain more than 50 swipes")
+    @Valid
+    @Schema(description = "Ordered list of swipes")
+    private List<SwipeRequest> swipes;
+}
@@ -0,0 +1,29 @@
+package org.example.Broomate.dto.response.allAuthUser;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Chat messages matching a text query")
+public class MessageSearchResponse {
+
+    @Schema(description = "Matching messages, newest first")
+    private List<MessageDetailResponse> messages;
+
+    @Schema(description = "Number of messages returned", example = "12")
+    private Integer totalCount;
+
+    @Schema(description = "The query that was searched", example = "tiền điện")
+    private String query;
+
+    @Schema(description = "Message", example = "Messages retrieved successfully")
+    private String message;
+}
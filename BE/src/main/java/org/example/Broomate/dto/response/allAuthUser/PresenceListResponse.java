@@ -0,0 +1,23 @@
+package org.example.Broomate.dto.response.allAuthUser;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Presence of the requested users")
+public class PresenceListResponse {
+
+    @Schema(description = "Presence per requested user, in request order")
+    private List<PresenceResponse> users;
+
+    @Schema(description = "Message", example = "Presence retrieved successfully")
+    private String message;
+}
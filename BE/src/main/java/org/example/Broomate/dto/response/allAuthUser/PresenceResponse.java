@@ -0,0 +1,24 @@
+package org.example.Broomate.dto.response.allAuthUser;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Online presence of a user")
+public class PresenceResponse {
+
+    @Schema(description = "User ID", example = "user123")
+    private String userId;
+
+    @Schema(description = "Whether the user has a live WebSocket session", example = "true")
+    private Boolean online;
+
+    @Schema(description = "Last WebSocket activity, null if unknown", example = "2025-10-24T12:30:00Z")
+    private String lastSeenAt;
+}
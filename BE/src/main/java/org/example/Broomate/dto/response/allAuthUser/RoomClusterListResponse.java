@@ -0,0 +1,29 @@
+package org.example.Broomate.dto.response.allAuthUser;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Map marker clusters for a viewport")
+public class RoomClusterListResponse {
+
+    @Schema(description = "Clusters in the viewport")
+    private List<RoomClusterResponse> clusters;
+
+    @Schema(description = "Total rooms across all clusters", example = "340")
+    private Integer totalRooms;
+
+    @Schema(description = "Zoom level the clusters were computed for", example = "13")
+    private Integer zoom;
+
+    @Schema(description = "Message", example = "Clusters retrieved successfully")
+    private String message;
+}
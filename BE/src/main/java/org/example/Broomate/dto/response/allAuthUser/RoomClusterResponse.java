@@ -0,0 +1,33 @@
+package org.example.Broomate.dto.response.allAuthUser;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Map marker cluster")
+public class RoomClusterResponse {
+
+    @Schema(description = "Cluster centre latitude (average of its rooms)", example = "10.7769")
+    private Double latitude;
+
+    @Schema(description = "Cluster centre longitude (average of its rooms)", example = "106.7009")
+    private Double longitude;
+
+    @Schema(description = "Number of rooms in the cluster", example = "12")
+    private Integer count;
+
+    @Schema(description = "Lowest rent in the cluster", example = "3000000")
+    private Double minPrice;
+
+    @Schema(description = "Highest rent in the cluster", example = "8000000")
+    private Double maxPrice;
+
+    @Schema(description = "Room ID when the cluster is a single room", example = "room123")
+    private String roomId;
+}
@@ -73,6 +73,12 @@ public class RoomDetailResponse {
     @Schema(description = "Updated timestamp")
     private String updatedAt;
 
+    @Schema(description = "Distance from the search point in km (geo searches only)", example = "1.25")
+    private Double distanceKm;
+
+    @Schema(description = "How well the room fits the tenant's criteria, 0-100 (recommendations only)", example = "85")
+    private Integer matchScore;
+
     /**
      * Convert Room model to RoomResponse DTO
      */
@@ -0,0 +1,35 @@
+package org.example.Broomate.dto.response.allAuthUser;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "One page of room search results")
+public class RoomSearchResponse {
+
+    @Schema(description = "Rooms on this page")
+    private List<RoomDetailResponse> rooms;
+
+    @Schema(description = "Total number of matching rooms", example = "128")
+    private Integer totalCount;
+
+    @Schema(description = "Current page (0-based)", example = "0")
+    private Integer page;
+
+    @Schema(description = "Page size", example = "20")
+    private Integer size;
+
+    @Schema(description = "Total pages", example = "7")
+    private Integer totalPages;
+
+    @Schema(description = "Message", example = "Rooms retrieved successfully")
+    private String message;
+}
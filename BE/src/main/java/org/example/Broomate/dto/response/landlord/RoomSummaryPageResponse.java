@@ -0,0 +1,34 @@
+package org.example.Broomate.dto.response.landlord;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RoomSummaryPageResponse {
+
+    @Schema(description = "Rooms on this page, newest first")
+    private List<RoomSummaryResponse> rooms;
+
+    @Schema(description = "Total number of rooms owned by the landlord", example = "240")
+    private Long totalElements;
+
+    @Schema(description = "Current page number", example = "0")
+    private Integer currentPage;
+
+    @Schema(description = "Page size", example = "20")
+    private Integer pageSize;
+
+    @Schema(description = "Cursor for the next page, null when there are no more rooms")
+    private String nextCursor;
+
+    @Schema(description = "Whether more rooms are available", example = "true")
+    private Boolean hasMore;
+}
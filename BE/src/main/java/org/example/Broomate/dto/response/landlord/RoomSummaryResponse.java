@@ -0,0 +1,45 @@
+package org.example.Broomate.dto.response.landlord;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.Broomate.model.Room;
+
+/**
+ * Dashboard list entry for a landlord's room; open the room for the full detail and media
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RoomSummaryResponse {
+
+    @Schema(description = "Room ID", example = "room123")
+    private String id;
+
+    @Schema(description = "Room title", example = "Cozy Studio in District 1")
+    private String title;
+
+    @Schema(description = "Thumbnail image URL")
+    private String thumbnailUrl;
+
+    @Schema(description = "Monthly rent price", example = "5000000")
+    private Double rentPricePerMonth;
+
+    @Schema(description = "Room status", example = "PUBLISHED")
+    private Room.RoomStatus status;
+
+    @Schema(description = "Times the room detail was viewed", example = "120")
+    private Long views;
+
+    @Schema(description = "Inquiries (3-way conversations) about the room", example = "4")
+    private Long inquiries;
+
+    @Schema(description = "Creation timestamp")
+    private String createdAt;
+
+    @Schema(description = "Last update timestamp")
+    private String updatedAt;
+}
@@ -0,0 +1,28 @@
+package org.example.Broomate.dto.response.tenant;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchSwipeResponse {
+
+    @Schema(description = "One result per submitted swipe, in request order")
+    private List<SwipeResponse> results;
+
+    @Schema(description = "Number of swipes recorded", example = "5")
+    private int recordedCount;
+
+    @Schema(description = "Number of matches created", example = "1")
+    private int matchCount;
+
+    @Schema(description = "Message")
+    private String message;
+}
@@ -1,13 +1,20 @@
 package org.example.Broomate.dto.response.tenant;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import com.google.cloud.Timestamp;
 import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.example.Broomate.model.TenantStats;
+
+import java.time.Duration;
+import java.time.Instant;
 
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@Builder
 public class MatchStatsResponse {
     
     @Schema(description = "Total number of swipes", example = "50")
@@ -30,4 +37,39 @@ public class MatchStatsResponse {
     
     @Schema(description = "Average swipes per day", example = "5.2")
     private Double averageSwipesPerDay;
+
+    /**
+     * Convert TenantStats counters to MatchStatsResponse DTO
+     *
+     * @param since - When the tenant started swiping (used for the per-day average)
+     */
+    public static MatchStatsResponse fromStats(TenantStats stats, Timestamp since) {
+        long totalSwipes = valueOf(stats.getTotalSwipes());
+        long rightSwipes = valueOf(stats.getRightSwipes());
+        long totalMatches = valueOf(stats.getTotalMatches());
+
+        double matchRate = rightSwipes > 0
+                ? Math.round(totalMatches * 10000.0 / rightSwipes) / 100.0
+                : 0.0;
+
+        double averageSwipesPerDay = 0.0;
+        if (since != null && totalSwipes > 0) {
+            long days = Math.max(1, Duration.between(since.toDate().toInstant(), Instant.now()).toDays() + 1);
+            averageSwipesPerDay = Math.round(totalSwipes * 100.0 / days) / 100.0;
+        }
+
+        return MatchStatsResponse.builder()
+                .totalSwipes(totalSwipes)
+                .rightSwipes(rightSwipes)
+                .leftSwipes(valueOf(stats.getLeftSwipes()))
+                .totalMatches(totalMatches)
+                .activeMatches(valueOf(stats.getActiveMatches()))
+                .matchRate(matchRate)
+                .averageSwipesPerDay(averageSwipesPerDay)
+                .build();
+    }
+
+    private static long valueOf(Long counter) {
+        return counter != null ? counter : 0L;
+    }
 }
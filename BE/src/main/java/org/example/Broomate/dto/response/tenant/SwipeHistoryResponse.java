@@ -2,6 +2,7 @@ package org.example.Broomate.dto.response.tenant;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
@@ -10,6 +11,7 @@ import java.util.List;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@Builder
 public class SwipeHistoryResponse {
     
     @Schema(description = "List of swipe actions")
@@ -26,4 +28,10 @@ public class SwipeHistoryResponse {
     
     @Schema(description = "Page size", example = "20")
     private Integer pageSize;
+
+    @Schema(description = "Cursor for the next page, null when there are no more swipes")
+    private String nextCursor;
+
+    @Schema(description = "Whether more swipes are available", example = "true")
+    private Boolean hasMore;
 }
@@ -2,6 +2,7 @@ package org.example.Broomate.dto.response.tenant;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
+import org.example.Broomate.dto.request.tenant.SwipeRequest;
 import org.example.Broomate.model.Swipe;
 
 @Data
@@ -31,6 +32,9 @@ public class SwipeResponse {
     @Schema(description = "Match details if a match was created")
     private MatchResponse matchDetail;
 
+    @Schema(description = "Why the swipe was not recorded (batch swipes only)", example = "You have already swiped on this tenant")
+    private String error;
+
     public static SwipeResponse fromSwipe(Swipe swipe, boolean isMatch, MatchResponse match, String message) {
         return SwipeResponse.builder()
                 .swipeId(swipe.getId())  // ✅ Map correctly
@@ -42,4 +46,28 @@ public class SwipeResponse {
                 .message(message)
                 .build();
     }
+
+    /**
+     * Result for a batch item that was not recorded
+     */
+    public static SwipeResponse notRecorded(SwipeRequest request, String error) {
+        return SwipeResponse.builder()
+                .targetTenantId(request.getTargetTenantId())
+                .action(request.getSwipeAction() != null ? request.getSwipeAction().toString() : null)
+                .isMatch(false)
+                .error(error)
+                .build();
+    }
+
+    /**
+     * Convert a stored swipe for history listings (match status is not tracked per swipe)
+     */
+    public static SwipeResponse fromSwipeHistory(Swipe swipe) {
+        return SwipeResponse.builder()
+                .swipeId(swipe.getId())
+                .targetTenantId(swipe.getTargetId())
+                .action(swipe.getAction() != null ? swipe.getAction().toString() : null)
+                .swipedAt(swipe.getCreatedAt() != null ? swipe.getCreatedAt().toString() : null)
+                .build();
+    }
 }
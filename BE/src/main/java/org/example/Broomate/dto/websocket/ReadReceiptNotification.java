@@ -0,0 +1,18 @@
+package org.example.Broomate.dto.websocket;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+@Data
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class ReadReceiptNotification extends WebSocketMessage {
+    private String conversationId;
+    private String userId; // Participant who read the messages
+    private String readUpTo; // Every message created at or before this time is read
+}
@@ -0,0 +1,18 @@
+package org.example.Broomate.dto.websocket;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+@Data
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class TypingNotification extends WebSocketMessage {
+    private String conversationId;
+    private String userId; // Participant who is typing
+    private Boolean typing; // false when the participant stopped typing
+}
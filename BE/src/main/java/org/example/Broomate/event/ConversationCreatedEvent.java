@@ -0,0 +1,19 @@
+package org.example.Broomate.event;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Published after a new conversation document has been created.
+ * roomId is only set for 3-way (tenant/tenant/landlord) conversations.
+ */
+@Value
+@Builder
+public class ConversationCreatedEvent {
+
+    String conversationId;
+    List<String> participantIds;
+    String roomId;
+}
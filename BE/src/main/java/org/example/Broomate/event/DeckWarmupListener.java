@@ -0,0 +1,32 @@
+package org.example.Broomate.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.Broomate.config.AsyncConfig;
+import org.example.Broomate.service.TenantService;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+/**
+ * Precomputes a tenant's swipe deck in the background when their session starts,
+ * so the first GET /api/tenant/profiles is usually served from the deck cache.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeckWarmupListener {
+
+    private final TenantService tenantService;
+
+    @Async(AsyncConfig.DOMAIN_EVENT_EXECUTOR)
+    @EventListener
+    public void onTenantSessionStarted(TenantSessionStartedEvent event) {
+        try {
+            tenantService.warmUpDeck(event.getTenantId());
+        } catch (RuntimeException e) {
+            // The deck is simply built on the first request instead
+            log.warn("Deck warm-up failed for tenant {}: {}", event.getTenantId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package org.example.Broomate.event;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Published after a landlord changed their profile (name, avatar, contact details)
+ */
+@Value
+@Builder
+public class LandlordProfileChangedEvent {
+
+    String landlordId;
+}
@@ -0,0 +1,22 @@
+package org.example.Broomate.event;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Published after a mutual match and its conversation have been persisted.
+ * The target tenant's name and avatar are carried along because the service
+ * already loaded them, so listeners only need to look up the initiator.
+ */
+@Value
+@Builder
+public class MatchCreatedEvent {
+
+    String matchId;
+    String swipeId;
+    String conversationId;
+    String initiatorId;     // Tenant whose swipe completed the match
+    String targetId;
+    String targetName;
+    String targetAvatar;
+}
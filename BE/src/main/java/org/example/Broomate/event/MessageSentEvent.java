@@ -0,0 +1,23 @@
+package org.example.Broomate.event;
+
+import com.google.cloud.Timestamp;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Published after a message has been saved and the conversation updated
+ */
+@Value
+@Builder
+public class MessageSentEvent {
+
+    String messageId;
+    String conversationId;
+    String senderId;
+    String content;
+    List<String> mediaUrls;
+    List<String> participantIds;
+    Timestamp createdAt;
+}
@@ -0,0 +1,20 @@
+package org.example.Broomate.event;
+
+import com.google.cloud.Timestamp;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Published when a participant's read watermark in a conversation advances
+ */
+@Value
+@Builder
+public class MessagesReadEvent {
+
+    String conversationId;
+    String userId;
+    Timestamp readUpTo;
+    List<String> participantIds;
+}
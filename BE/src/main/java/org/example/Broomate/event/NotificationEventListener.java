@@ -0,0 +1,199 @@
+package org.example.Broomate.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.Broomate.config.AsyncConfig;
+import org.example.Broomate.dto.websocket.NewMessageNotification;
+import org.example.Broomate.dto.websocket.NewSwipeNotification;
+import org.example.Broomate.dto.websocket.ReadReceiptNotification;
+import org.example.Broomate.dto.websocket.ThreeWayConversationNotification;
+import org.example.Broomate.model.Account;
+import org.example.Broomate.model.Room;
+import org.example.Broomate.model.Swipe;
+import org.example.Broomate.model.Tenant;
+import org.example.Broomate.repository.AllAuthUserRepository;
+import org.example.Broomate.repository.TenantRepository;
+import org.example.Broomate.service.RoomCache;
+import org.example.Broomate.service.WebSocketService;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds and pushes WebSocket notifications for domain events.
+ * Runs on the bounded domain event executor so request latency does not include
+ * the extra profile lookups or the broker dispatch.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationEventListener {
+
+    private final WebSocketService webSocketService;
+    private final TenantRepository tenantRepository;
+    private final AllAuthUserRepository allAuthUserRepository;
+    private final RoomCache roomCache;
+
+    // ========================================
+    // SWIPES & MATCHES
+    // ========================================
+
+    /**
+     * Notify the target tenant that someone swiped right on them
+     */
+    @Async(AsyncConfig.DOMAIN_EVENT_EXECUTOR)
+    @EventListener
+    public void onSwipeRecorded(SwipeRecordedEvent event) {
+        if (!Swipe.SwipeActionEnum.ACCEPT.equals(event.getAction())) {
+            return;
+        }
+
+        Tenant swiper = tenantRepository.findById(event.getSwiperId()).orElse(null);
+        if (swiper == null) {
+            log.warn("Swiper {} not found, skipping swipe notification", event.getSwiperId());
+            return;
+        }
+
+        NewSwipeNotification notification = NewSwipeNotification.builder()
+                .swipeId(event.getSwipeId())
+                .swiperId(event.getSwiperId())
+                .swiperName(swiper.getName())
+                .swiperAvatar(swiper.getAvatarUrl())
+                .isMatch(false) // Not a match yet
+                .build();
+
+        webSocketService.sendNewSwipeNotification(event.getTargetId(), notification);
+        log.info("Sent swipe notification from {} to {}", event.getSwiperId(), event.getTargetId());
+    }
+
+    /**
+     * Notify both tenants of a new match
+     */
+    @Async(AsyncConfig.DOMAIN_EVENT_EXECUTOR)
+    @EventListener
+    public void onMatchCreated(MatchCreatedEvent event) {
+        Tenant initiator = tenantRepository.findById(event.getInitiatorId()).orElse(null);
+
+        // Initiator sees the target tenant
+        if (initiator != null) {
+            NewSwipeNotification toInitiator = NewSwipeNotification.builder()
+                    .swipeId(event.getSwipeId())
+                    .swiperId(event.getTargetId())
+                    .swiperName(event.getTargetName())
+                    .swiperAvatar(event.getTargetAvatar())
+                    .isMatch(true)
+                    .conversationId(event.getConversationId())
+                    .build();
+
+            webSocketService.sendNewSwipeNotification(event.getInitiatorId(), toInitiator);
+            log.info("Sent match notification to initiating tenant: {}", event.getInitiatorId());
+        }
+
+        // Target sees the initiator
+        NewSwipeNotification toTarget = NewSwipeNotification.builder()
+                .swipeId(event.getSwipeId())
+                .swiperId(event.getInitiatorId())
+                .swiperName(initiator != null ? initiator.getName() : "Unknown")
+                .swiperAvatar(initiator != null ? initiator.getAvatarUrl() : null)
+                .isMatch(true)
+                .conversationId(event.getConversationId())
+                .build();
+
+        webSocketService.sendNewSwipeNotification(event.getTargetId(), toTarget);
+        log.info("Sent match notification to target tenant: {}", event.getTargetId());
+    }
+
+    // ========================================
+    // CONVERSATIONS & MESSAGES
+    // ========================================
+
+    /**
+     * Notify all participants of a new 3-way conversation.
+     * 2-way conversations are announced by the match notification instead.
+     */
+    @Async(AsyncConfig.DOMAIN_EVENT_EXECUTOR)
+    @EventListener
+    public void onConversationCreated(ConversationCreatedEvent event) {
+        if (event.getRoomId() == null) {
+            return;
+        }
+
+        Room room = roomCache.findById(event.getRoomId()).orElse(null);
+        String roomTitle = room != null ? room.getTitle() : "a room";
+        String roomImageUrl = room != null && room.getImageUrls() != null && !room.getImageUrls().isEmpty()
+                ? room.getImageUrls().get(0) : null;
+
+        List<ThreeWayConversationNotification.ParticipantInfo> participants = new ArrayList<>();
+        for (String participantId : event.getParticipantIds()) {
+            allAuthUserRepository.findAccountById(participantId).ifPresent(account -> participants.add(
+                    ThreeWayConversationNotification.ParticipantInfo.builder()
+                            .userId(participantId)
+                            .name(account.getName())
+                            .avatarUrl(account.getAvatarUrl())
+                            .role(account.getRole() != null ? account.getRole().toString() : null)
+                            .build()));
+        }
+
+        webSocketService.sendThreeWayConversationNotification(
+                event.getConversationId(),
+                event.getRoomId(),
+                roomTitle,
+                roomImageUrl,
+                event.getParticipantIds(),
+                participants
+        );
+    }
+
+    /**
+     * Notify every other participant of a new message
+     */
+    @Async(AsyncConfig.DOMAIN_EVENT_EXECUTOR)
+    @EventListener
+    public void onMessageSent(MessageSentEvent event) {
+        List<String> recipientIds = event.getParticipantIds().stream()
+                .filter(id -> !id.equals(event.getSenderId()))
+                .distinct()
+                .toList();
+
+        if (recipientIds.isEmpty()) {
+            return;
+        }
+
+        Account sender = allAuthUserRepository.findAccountById(event.getSenderId()).orElse(null);
+
+        NewMessageNotification notification = NewMessageNotification.builder()
+                .messageId(event.getMessageId())
+                .conversationId(event.getConversationId())
+                .senderId(event.getSenderId())
+                .senderName(sender != null ? sender.getName() : "Unknown User")
+                .senderAvatar(sender != null ? sender.getAvatarUrl() : null)
+                .content(event.getContent())
+                .mediaUrls(event.getMediaUrls())
+                .timestamp(event.getCreatedAt().toString())
+                .build();
+
+        webSocketService.sendNewMessageNotificationToAll(recipientIds, notification);
+    }
+
+    /**
+     * Push a read receipt to the other participants
+     */
+    @Async(AsyncConfig.DOMAIN_EVENT_EXECUTOR)
+    @EventListener
+    public void onMessagesRead(MessagesReadEvent event) {
+        List<String> recipientIds = event.getParticipantIds().stream()
+                .filter(id -> !id.equals(event.getUserId()))
+                .toList();
+
+        ReadReceiptNotification notification = ReadReceiptNotification.builder()
+                .conversationId(event.getConversationId())
+                .userId(event.getUserId())
+                .readUpTo(event.getReadUpTo().toString())
+                .build();
+
+        webSocketService.sendReadReceiptNotification(recipientIds, notification);
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.Broomate.event;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Published after a tenant bookmarks a room
+ */
+@Value
+@Builder
+public class RoomBookmarkedEvent {
+
+    String bookmarkId;
+    String tenantId;
+    String roomId;
+    String landlordId;
+    String threeWayConversationId;  // Only set if the bookmark triggered a 3-way conversation
+}
@@ -0,0 +1,16 @@
+package org.example.Broomate.event;
+
+import lombok.Builder;
+import lombok.Value;
+import org.example.Broomate.model.Room;
+
+/**
+ * Published after a room was created or updated (info, media or status)
+ */
+@Value
+@Builder
+public class RoomChangedEvent {
+
+    String roomId;
+    Room room;
+}
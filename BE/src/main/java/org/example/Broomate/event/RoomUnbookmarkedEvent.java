@@ -0,0 +1,15 @@
+package org.example.Broomate.event;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Published after a tenant removes a room bookmark
+ */
+@Value
+@Builder
+public class RoomUnbookmarkedEvent {
+
+    String tenantId;
+    String roomId;
+}
@@ -0,0 +1,20 @@
+package org.example.Broomate.event;
+
+import com.google.cloud.Timestamp;
+import lombok.Builder;
+import lombok.Value;
+import org.example.Broomate.model.Swipe;
+
+/**
+ * Published after a swipe has been persisted
+ */
+@Value
+@Builder
+public class SwipeRecordedEvent {
+
+    String swipeId;
+    String swiperId;
+    String targetId;
+    Swipe.SwipeActionEnum action;
+    Timestamp createdAt;
+}
@@ -0,0 +1,17 @@
+package org.example.Broomate.event;
+
+import lombok.Builder;
+import lombok.Value;
+import org.example.Broomate.model.Tenant;
+
+/**
+ * Published after a tenant document was created or changed (profile, active flag).
+ * When tenant is null, listeners reload the document by ID.
+ */
+@Value
+@Builder
+public class TenantProfileChangedEvent {
+
+    String tenantId;
+    Tenant tenant;
+}
@@ -0,0 +1,14 @@
+package org.example.Broomate.event;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Published when a tenant logs in or opens an authenticated WebSocket session
+ */
+@Value
+@Builder
+public class TenantSessionStartedEvent {
+
+    String tenantId;
+}
@@ -0,0 +1,107 @@
+package org.example.Broomate.index;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.Broomate.event.MatchCreatedEvent;
+import org.example.Broomate.event.RoomBookmarkedEvent;
+import org.example.Broomate.event.RoomUnbookmarkedEvent;
+import org.example.Broomate.model.Bookmark;
+import org.example.Broomate.model.Match;
+import org.example.Broomate.repository.TenantRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Room -> bookmarking tenants and tenant -> matched tenants, so finding a matched tenant who
+ * bookmarked the same room (a 3-way conversation candidate) is one in-memory set intersection.
+ * Loaded from bookmarks and active matches at startup and kept current from bookmark and match events.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookmarkMatchIndex {
+
+    private final TenantRepository tenantRepository;
+
+    private final Map<String, Set<String>> bookmarkersByRoom = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> matchesByTenant = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        try {
+            List<Bookmark> bookmarks = tenantRepository.findAllBookmarks();
+            List<Match> matches = tenantRepository.findAllActiveMatches();
+
+            bookmarks.forEach(bookmark -> addBookmark(bookmark.getRoomId(), bookmark.getTenantId()));
+            matches.forEach(match -> addMatch(match.getTenant1Id(), match.getTenant2Id()));
+
+            ready = true;
+            log.info("Bookmark/match index built from {} bookmarks and {} matches", bookmarks.size(), matches.size());
+        } catch (RuntimeException e) {
+            // 3-way detection falls back to per-bookmarker Firestore queries
+            log.error("Failed to build bookmark/match index", e);
+        }
+    }
+
+    @EventListener
+    public void onRoomBookmarked(RoomBookmarkedEvent event) {
+        addBookmark(event.getRoomId(), event.getTenantId());
+    }
+
+    @EventListener
+    public void onRoomUnbookmarked(RoomUnbookmarkedEvent event) {
+        Set<String> bookmarkers = bookmarkersByRoom.get(event.getRoomId());
+        if (bookmarkers != null) {
+            bookmarkers.remove(event.getTenantId());
+        }
+    }
+
+    @EventListener
+    public void onMatchCreated(MatchCreatedEvent event) {
+        addMatch(event.getInitiatorId(), event.getTargetId());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * A tenant matched with {@code tenantId} who bookmarked the room, if any
+     */
+    public Optional<String> findMatchedBookmarker(String roomId, String tenantId) {
+        Set<String> bookmarkers = bookmarkersByRoom.getOrDefault(roomId, Set.of());
+        Set<String> matched = matchesByTenant.getOrDefault(tenantId, Set.of());
+
+        // Probe the larger set with the smaller one
+        Set<String> smaller = bookmarkers.size() <= matched.size() ? bookmarkers : matched;
+        Set<String> larger = smaller == bookmarkers ? matched : bookmarkers;
+        for (String candidate : smaller) {
+            if (!candidate.equals(tenantId) && larger.contains(candidate)) {
+                return Optional.of(candidate);
+            }
+        }
+        return Optional.empty();
+    }
+
+    // ========================================
+    // PRIVATE HELPER METHODS
+    // ========================================
+
+    private void addBookmark(String roomId, String tenantId) {
+        if (roomId != null && tenantId != null) {
+            bookmarkersByRoom.computeIfAbsent(roomId, id -> ConcurrentHashMap.newKeySet()).add(tenantId);
+        }
+    }
+
+    private void addMatch(String tenant1Id, String tenant2Id) {
+        if (tenant1Id != null && tenant2Id != null) {
+            matchesByTenant.computeIfAbsent(tenant1Id, id -> ConcurrentHashMap.newKeySet()).add(tenant2Id);
+            matchesByTenant.computeIfAbsent(tenant2Id, id -> ConcurrentHashMap.newKeySet()).add(tenant1Id);
+        }
+    }
+}
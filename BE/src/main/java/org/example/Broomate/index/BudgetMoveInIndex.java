@@ -0,0 +1,90 @@
+package org.example.Broomate.index;
+
+import org.example.Broomate.model.Tenant;
+import org.example.Broomate.util.DateUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.BitSet;
+
+/**
+ * Range indexes over budgetPerMonth and move-in epoch day for active tenants.
+ * Lets the deck keep only tenants with a similar budget and move-in date in O(log n + k).
+ */
+@Component
+public class BudgetMoveInIndex implements TenantIndexListener {
+
+    private final SortedRangeIndex budgets = new SortedRangeIndex();
+    private final SortedRangeIndex moveInDays = new SortedRangeIndex();
+    private final double budgetTolerance;
+    private final int moveInToleranceDays;
+
+    public BudgetMoveInIndex(
+            @Value("${broomate.deck.budget-tolerance:0.3}") double budgetTolerance,
+            @Value("${broomate.deck.move-in-tolerance-days:30}") int moveInToleranceDays) {
+        this.budgetTolerance = budgetTolerance;
+        this.moveInToleranceDays = moveInToleranceDays;
+    }
+
+    @Override
+    public synchronized void onUpsert(int ordinal, Tenant tenant) {
+        if (tenant.getBudgetPerMonth() != null) {
+            budgets.put(ordinal, tenant.getBudgetPerMonth());
+        } else {
+            budgets.remove(ordinal);
+        }
+
+        Long moveInDay = DateUtil.toEpochDay(tenant.getMoveInDate());
+        if (moveInDay != null) {
+            moveInDays.put(ordinal, moveInDay);
+        } else {
+            moveInDays.remove(ordinal);
+        }
+    }
+
+    @Override
+    public synchronized void onRemove(int ordinal) {
+        budgets.remove(ordinal);
+        moveInDays.remove(ordinal);
+    }
+
+    /**
+     * Tenants whose budget is within the configured tolerance of min..max
+     */
+    public synchronized BitSet withinBudget(double min, double max) {
+        return budgets.range(min, max);
+    }
+
+    /**
+     * Tenants moving in between the two epoch days (inclusive)
+     */
+    public synchronized BitSet withinMoveIn(long fromDay, long toDay) {
+        return moveInDays.range(fromDay, toDay);
+    }
+
+    /**
+     * Tenants whose budget and move-in date are both close to this tenant's.
+     * A criterion the tenant has not filled in does not restrict the result;
+     * returns null when neither is set.
+     */
+    public BitSet compatibleWith(Tenant tenant) {
+        BitSet result = null;
+
+        Double budget = tenant.getBudgetPerMonth();
+        if (budget != null) {
+            result = withinBudget(budget * (1 - budgetTolerance), budget * (1 + budgetTolerance));
+        }
+
+        Long moveInDay = DateUtil.toEpochDay(tenant.getMoveInDate());
+        if (moveInDay != null) {
+            BitSet closeMoveIn = withinMoveIn(moveInDay - moveInToleranceDays, moveInDay + moveInToleranceDays);
+            if (result == null) {
+                result = closeMoveIn;
+            } else {
+                result.and(closeMoveIn);
+            }
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,106 @@
+package org.example.Broomate.index;
+
+import org.example.Broomate.model.Tenant;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Inverted index from preferred district to the bitmap of tenant ordinals that want it.
+ * District names are normalized ("District 1", " district  1 ") and interned to small int IDs.
+ */
+@Component
+public class DistrictIndex implements TenantIndexListener {
+
+    private static final int[] NO_DISTRICTS = new int[0];
+
+    private final Map<String, Integer> districtIds = new HashMap<>();
+    private final List<BitSet> postings = new ArrayList<>();              // district ID -> tenant ordinals
+    private final Map<Integer, int[]> districtsByTenant = new HashMap<>();  // tenant ordinal -> district IDs
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Override
+    public void onUpsert(int ordinal, Tenant tenant) {
+        lock.writeLock().lock();
+        try {
+            clear(ordinal);
+
+            int[] ids = intern(tenant.getPreferredDistricts());
+            for (int id : ids) {
+                postings.get(id).set(ordinal);
+            }
+            if (ids.length > 0) {
+                districtsByTenant.put(ordinal, ids);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onRemove(int ordinal) {
+        lock.writeLock().lock();
+        try {
+            clear(ordinal);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Tenants who prefer at least one of the given districts
+     */
+    public BitSet tenantsSharingAny(Collection<String> districts) {
+        BitSet result = new BitSet();
+        if (districts == null || districts.isEmpty()) {
+            return result;
+        }
+
+        lock.readLock().lock();
+        try {
+            for (String district : districts) {
+                Integer id = districtIds.get(normalize(district));
+                if (id != null) {
+                    result.or(postings.get(id));
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static String normalize(String district) {
+        return district == null ? "" : district.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    // ========================================
+    // PRIVATE HELPER METHODS (caller holds the write lock)
+    // ========================================
+
+    private void clear(int ordinal) {
+        int[] previous = districtsByTenant.remove(ordinal);
+        if (previous != null) {
+            for (int id : previous) {
+                postings.get(id).clear(ordinal);
+            }
+        }
+    }
+
+    private int[] intern(List<String> districts) {
+        if (districts == null || districts.isEmpty()) {
+            return NO_DISTRICTS;
+        }
+
+        return districts.stream()
+                .map(DistrictIndex::normalize)
+                .filter(key -> !key.isEmpty())
+                .mapToInt(key -> districtIds.computeIfAbsent(key, k -> {
+                    postings.add(new BitSet());
+                    return postings.size() - 1;
+                }))
+                .distinct()
+                .toArray();
+    }
+}
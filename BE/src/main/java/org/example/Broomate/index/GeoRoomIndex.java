@@ -0,0 +1,192 @@
+package org.example.Broomate.index;
+
+import org.example.Broomate.model.Room;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntConsumer;
+
+/**
+ * Grid index over published room coordinates (cells of 0.01 degrees, about 1.1 km).
+ * Radius and bounding-box queries only visit the cells overlapping the query area and
+ * return hits ordered by great-circle distance.
+ */
+@Component
+public class GeoRoomIndex implements RoomIndexListener {
+
+    static final double CELL_DEGREES = 0.01;
+    private static final double KM_PER_DEGREE_LAT = 111.32;
+    private static final double EARTH_RADIUS_KM = 6371.0;
+
+    private final Map<Long, Set<Integer>> cells = new HashMap<>();
+    private double[] latitudes = new double[64];
+    private double[] longitudes = new double[64];
+    private final BitSet located = new BitSet();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * A room ordinal and its distance from the query point in km
+     */
+    public record GeoHit(int ordinal, double distanceKm) {
+    }
+
+    @Override
+    public void onUpsert(int ordinal, Room room) {
+        lock.writeLock().lock();
+        try {
+            clear(ordinal);
+
+            Double lat = room.getLatitude();
+            Double lon = room.getLongitude();
+            if (lat == null || lon == null || Math.abs(lat) > 90 || Math.abs(lon) > 180) {
+                return;
+            }
+
+            ensureCapacity(ordinal);
+            latitudes[ordinal] = lat;
+            longitudes[ordinal] = lon;
+            located.set(ordinal);
+            cells.computeIfAbsent(cellKey(cell(lat), cell(lon)), key -> new HashSet<>()).add(ordinal);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onRemove(int ordinal) {
+        lock.writeLock().lock();
+        try {
+            clear(ordinal);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Rooms within radiusKm of the point, nearest first
+     */
+    public List<GeoHit> withinRadius(double lat, double lon, double radiusKm, int limit) {
+        double dLat = radiusKm / KM_PER_DEGREE_LAT;
+        double dLon = radiusKm / (KM_PER_DEGREE_LAT * Math.max(0.01, Math.cos(Math.toRadians(lat))));
+
+        lock.readLock().lock();
+        try {
+            List<GeoHit> hits = new ArrayList<>();
+            forEachCandidate(lat - dLat, lon - dLon, lat + dLat, lon + dLon, ordinal -> {
+                double distance = distanceKm(lat, lon, latitudes[ordinal], longitudes[ordinal]);
+                if (distance <= radiusKm) {
+                    hits.add(new GeoHit(ordinal, distance));
+                }
+            });
+            return nearest(hits, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Rooms inside the bounding box, nearest to the box centre first
+     */
+    public List<GeoHit> withinBounds(double minLat, double minLon, double maxLat, double maxLon, int limit) {
+        double centerLat = (minLat + maxLat) / 2;
+        double centerLon = (minLon + maxLon) / 2;
+
+        lock.readLock().lock();
+        try {
+            List<GeoHit> hits = new ArrayList<>();
+            forEachCandidate(minLat, minLon, maxLat, maxLon, ordinal -> {
+                double lat = latitudes[ordinal];
+                double lon = longitudes[ordinal];
+                if (lat >= minLat && lat <= maxLat && lon >= minLon && lon <= maxLon) {
+                    hits.add(new GeoHit(ordinal, distanceKm(centerLat, centerLon, lat, lon)));
+                }
+            });
+            return nearest(hits, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    // ========================================
+    // PRIVATE HELPER METHODS
+    // ========================================
+
+    // Caller holds a lock
+    private void forEachCandidate(double minLat, double minLon, double maxLat, double maxLon,
+                                  IntConsumer consumer) {
+        int minLatCell = cell(minLat);
+        int maxLatCell = cell(maxLat);
+        int minLonCell = cell(minLon);
+        int maxLonCell = cell(maxLon);
+        long cellCount = (long) (maxLatCell - minLatCell + 1) * (maxLonCell - minLonCell + 1);
+
+        // Large areas: walk the non-empty cells instead of probing every cell in the range
+        if (cellCount > cells.size()) {
+            cells.forEach((key, ordinals) -> {
+                int latCell = (int) (key >> 32);
+                int lonCell = (int) (long) key;
+                if (latCell >= minLatCell && latCell <= maxLatCell && lonCell >= minLonCell && lonCell <= maxLonCell) {
+                    ordinals.forEach(consumer::accept);
+                }
+            });
+            return;
+        }
+
+        for (int latCell = minLatCell; latCell <= maxLatCell; latCell++) {
+            for (int lonCell = minLonCell; lonCell <= maxLonCell; lonCell++) {
+                Set<Integer> ordinals = cells.get(cellKey(latCell, lonCell));
+                if (ordinals != null) {
+                    ordinals.forEach(consumer::accept);
+                }
+            }
+        }
+    }
+
+    private List<GeoHit> nearest(List<GeoHit> hits, int limit) {
+        hits.sort(Comparator.comparingDouble(GeoHit::distanceKm));
+        return hits.size() > limit ? new ArrayList<>(hits.subList(0, limit)) : hits;
+    }
+
+    // Caller holds the write lock
+    private void clear(int ordinal) {
+        if (!located.get(ordinal)) {
+            return;
+        }
+
+        long key = cellKey(cell(latitudes[ordinal]), cell(longitudes[ordinal]));
+        Set<Integer> ordinals = cells.get(key);
+        if (ordinals != null) {
+            ordinals.remove(ordinal);
+            if (ordinals.isEmpty()) {
+                cells.remove(key);
+            }
+        }
+        located.clear(ordinal);
+    }
+
+    private void ensureCapacity(int ordinal) {
+        if (ordinal >= latitudes.length) {
+            int size = Math.max(ordinal + 1, latitudes.length * 2);
+            latitudes = Arrays.copyOf(latitudes, size);
+            longitudes = Arrays.copyOf(longitudes, size);
+        }
+    }
+
+    private static int cell(double degrees) {
+        return (int) Math.floor(degrees / CELL_DEGREES);
+    }
+
+    private static long cellKey(int latCell, int lonCell) {
+        return ((long) latCell << 32) | (lonCell & 0xffffffffL);
+    }
+}
@@ -0,0 +1,450 @@
+package org.example.Broomate.index;
+
+import com.google.cloud.Timestamp;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.Broomate.event.MessageSentEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Embedded full-text index over chat messages, one segment per conversation holding its
+ * participants, messages and token postings. A user's searches only visit the segments of
+ * conversations they participate in. Segments are persisted as append-only files on local
+ * disk: new messages are appended on flush, and a torn trailing record is cut off on load.
+ * Messages indexed shortly before an unclean shutdown may never reach disk, so a segment is
+ * unverified until MessageSearchService has reconciled it with Firestore once per process.
+ */
+@Slf4j
+@Component
+public class MessageSearchIndex {
+
+    private static final int SEGMENT_MAGIC = 0x42524d4d;    // "BRMM"
+    private static final int SEGMENT_VERSION = 1;
+    private static final Pattern SAFE_FILE_NAME = Pattern.compile("[A-Za-z0-9_-]+");
+
+    private final Path segmentDir;
+
+    // Conversation ID -> segment
+    private final Map<String, ConversationSegment> segments = new ConcurrentHashMap<>();
+
+    // User ID -> conversations they participate in
+    private final Map<String, Set<String>> conversationsByUser = new ConcurrentHashMap<>();
+
+    public record IndexedMessage(String messageId, String conversationId, String senderId,
+                                 String content, Timestamp createdAt) {
+    }
+
+    /**
+     * Sorted positions of the messages containing a term
+     */
+    private static final class Postings {
+        int[] positions = new int[4];
+        int size;
+
+        void add(int position) {
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size * 2);
+            }
+            positions[size++] = position;
+        }
+
+        boolean contains(int position) {
+            return Arrays.binarySearch(positions, 0, size, position) >= 0;
+        }
+    }
+
+    // Guarded by its own monitor
+    private static final class ConversationSegment {
+        final String conversationId;
+        final List<String> participantIds;
+        final List<IndexedMessage> messages = new ArrayList<>();
+        final Set<String> messageIds = new HashSet<>();
+        final Map<String, Postings> postings = new HashMap<>();
+        final List<IndexedMessage> unflushed = new ArrayList<>();
+        Timestamp latestCreatedAt;
+        boolean verified;
+
+        ConversationSegment(String conversationId, List<String> participantIds) {
+            this.conversationId = conversationId;
+            this.participantIds = List.copyOf(participantIds);
+        }
+    }
+
+    public MessageSearchIndex(@Value("${broomate.search.index-dir:./data/search}") String indexDir) {
+        this.segmentDir = Paths.get(indexDir, "messages");
+    }
+
+    // ========================================
+    // INDEX MAINTENANCE
+    // ========================================
+
+    @EventListener
+    public void onMessageSent(MessageSentEvent event) {
+        add(event.getParticipantIds(), new IndexedMessage(
+                event.getMessageId(),
+                event.getConversationId(),
+                event.getSenderId(),
+                event.getContent(),
+                event.getCreatedAt()));
+    }
+
+    /**
+     * Index a message; messages already in the segment are ignored
+     */
+    public void add(List<String> participantIds, IndexedMessage message) {
+        ConversationSegment segment = segmentFor(message.conversationId(), participantIds);
+        synchronized (segment) {
+            if (append(segment, message)) {
+                segment.unflushed.add(message);
+            }
+        }
+    }
+
+    /**
+     * Creation time of the newest indexed message, null when nothing is indexed
+     */
+    public Timestamp latestCreatedAt(String conversationId) {
+        ConversationSegment segment = segments.get(conversationId);
+        if (segment == null) {
+            return null;
+        }
+        synchronized (segment) {
+            return segment.latestCreatedAt;
+        }
+    }
+
+    /**
+     * Number of indexed messages, 0 when nothing is indexed
+     */
+    public int messageCount(String conversationId) {
+        ConversationSegment segment = segments.get(conversationId);
+        if (segment == null) {
+            return 0;
+        }
+        synchronized (segment) {
+            return segment.messages.size();
+        }
+    }
+
+    /**
+     * Whether the segment has been checked against Firestore since startup
+     */
+    public boolean isVerified(String conversationId) {
+        ConversationSegment segment = segments.get(conversationId);
+        if (segment == null) {
+            return false;
+        }
+        synchronized (segment) {
+            return segment.verified;
+        }
+    }
+
+    public void markVerified(String conversationId) {
+        ConversationSegment segment = segments.get(conversationId);
+        if (segment != null) {
+            synchronized (segment) {
+                segment.verified = true;
+            }
+        }
+    }
+
+    public List<String> participantsOf(String conversationId) {
+        ConversationSegment segment = segments.get(conversationId);
+        return segment != null ? segment.participantIds : List.of();
+    }
+
+    // ========================================
+    // SEARCH
+    // ========================================
+
+    /**
+     * Messages containing every query term, newest first, from the user's conversations
+     * (or only the given one when conversationId is set)
+     */
+    public List<IndexedMessage> search(String userId, String conversationId, String query, int limit) {
+        Set<String> terms = new LinkedHashSet<>(TextAnalyzer.tokenize(query));
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        Collection<String> conversationIds = conversationId != null
+                ? List.of(conversationId)
+                : conversationsByUser.getOrDefault(userId, Set.of());
+
+        // Min-heap of the newest `limit` hits
+        Comparator<IndexedMessage> byCreatedAt = Comparator.comparing(IndexedMessage::createdAt);
+        PriorityQueue<IndexedMessage> newest = new PriorityQueue<>(byCreatedAt);
+
+        for (String id : conversationIds) {
+            ConversationSegment segment = segments.get(id);
+            if (segment == null || !segment.participantIds.contains(userId)) {
+                continue;
+            }
+
+            synchronized (segment) {
+                List<Postings> lists = new ArrayList<>(terms.size());
+                for (String term : terms) {
+                    Postings termPostings = segment.postings.get(term);
+                    if (termPostings == null) {
+                        lists.clear();
+                        break;
+                    }
+                    lists.add(termPostings);
+                }
+                if (lists.isEmpty()) {
+                    continue;
+                }
+
+                // Walk the rarest term and probe the others
+                lists.sort(Comparator.comparingInt(postings -> postings.size));
+                Postings rarest = lists.get(0);
+                for (int i = 0; i < rarest.size; i++) {
+                    int position = rarest.positions[i];
+                    boolean matchesAll = true;
+                    for (int l = 1; l < lists.size() && matchesAll; l++) {
+                        matchesAll = lists.get(l).contains(position);
+                    }
+                    if (matchesAll) {
+                        newest.add(segment.messages.get(position));
+                        if (newest.size() > limit) {
+                            newest.poll();
+                        }
+                    }
+                }
+            }
+        }
+
+        List<IndexedMessage> hits = new ArrayList<>(newest);
+        hits.sort(byCreatedAt.reversed());
+        return hits;
+    }
+
+    // ========================================
+    // SEGMENT PERSISTENCE
+    // ========================================
+
+    /**
+     * Load every conversation segment from disk
+     */
+    @PostConstruct
+    public void loadSegments() {
+        if (!Files.isDirectory(segmentDir)) {
+            log.info("No message segments at {}, conversations will be indexed on first search", segmentDir);
+            return;
+        }
+
+        int loaded = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(segmentDir, "*.seg")) {
+            for (Path file : files) {
+                if (loadSegment(file)) {
+                    loaded++;
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Failed to list message segments in {}", segmentDir, e);
+        }
+        log.info("Loaded {} message segments from {}", loaded, segmentDir);
+    }
+
+    /**
+     * Append messages indexed since the last flush to their conversation's segment file
+     */
+    @Scheduled(fixedDelayString = "${broomate.message-search.flush-interval-ms:30000}")
+    @PreDestroy
+    public void flushSegments() {
+        int flushed = 0;
+        for (ConversationSegment segment : segments.values()) {
+            List<IndexedMessage> batch;
+            synchronized (segment) {
+                if (segment.unflushed.isEmpty()) {
+                    continue;
+                }
+                batch = new ArrayList<>(segment.unflushed);
+                segment.unflushed.clear();
+            }
+
+            try {
+                appendToFile(segment, batch);
+                flushed += batch.size();
+            } catch (IOException e) {
+                // Keep the messages for the next flush, ahead of anything indexed meanwhile
+                synchronized (segment) {
+                    segment.unflushed.addAll(0, batch);
+                }
+                log.warn("Failed to append to message segment of conversation {}", segment.conversationId, e);
+            }
+        }
+        if (flushed > 0) {
+            log.debug("Flushed {} messages to segments in {}", flushed, segmentDir);
+        }
+    }
+
+    // ========================================
+    // PRIVATE HELPER METHODS
+    // ========================================
+
+    private ConversationSegment segmentFor(String conversationId, List<String> participantIds) {
+        ConversationSegment segment = segments.computeIfAbsent(conversationId,
+                id -> new ConversationSegment(id, participantIds));
+        for (String participantId : segment.participantIds) {
+            conversationsByUser.computeIfAbsent(participantId, id -> ConcurrentHashMap.newKeySet()).add(conversationId);
+        }
+        return segment;
+    }
+
+    // Caller holds the segment monitor
+    private boolean append(ConversationSegment segment, IndexedMessage message) {
+        if (!segment.messageIds.add(message.messageId())) {
+            return false;
+        }
+
+        int position = segment.messages.size();
+        segment.messages.add(message);
+        for (String term : new HashSet<>(TextAnalyzer.tokenize(message.content()))) {
+            segment.postings.computeIfAbsent(term, key -> new Postings()).add(position);
+        }
+        if (segment.latestCreatedAt == null || message.createdAt().compareTo(segment.latestCreatedAt) > 0) {
+            segment.latestCreatedAt = message.createdAt();
+        }
+        return true;
+    }
+
+    private Path segmentFile(String conversationId) {
+        return segmentDir.resolve(conversationId + ".seg");
+    }
+
+    private void appendToFile(ConversationSegment segment, List<IndexedMessage> batch) throws IOException {
+        if (!SAFE_FILE_NAME.matcher(segment.conversationId).matches()) {
+            return;    // Kept in memory only
+        }
+
+        Files.createDirectories(segmentDir);
+        Path file = segmentFile(segment.conversationId);
+        boolean newFile = !Files.exists(file);
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            long length = channel.size();
+            channel.position(length);
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+            try {
+                writeRecords(out, segment, batch, newFile);
+                out.flush();
+            } catch (IOException e) {
+                // Cut off the partial batch so the retry appends right after the last complete record
+                try {
+                    channel.truncate(length);
+                } catch (IOException truncateFailure) {
+                    e.addSuppressed(truncateFailure);
+                }
+                throw e;
+            }
+        } catch (IOException e) {
+            if (newFile) {
+                // A file without a complete header could never be appended to
+                deleteQuietly(file);
+            }
+            throw e;
+        }
+    }
+
+    private void writeRecords(DataOutputStream out, ConversationSegment segment, List<IndexedMessage> batch,
+                              boolean newFile) throws IOException {
+        if (newFile) {
+            out.writeInt(SEGMENT_MAGIC);
+            out.writeInt(SEGMENT_VERSION);
+            out.writeUTF(segment.conversationId);
+            out.writeInt(segment.participantIds.size());
+            for (String participantId : segment.participantIds) {
+                out.writeUTF(participantId);
+            }
+        }
+        for (IndexedMessage message : batch) {
+            byte[] content = (message.content() != null ? message.content() : "").getBytes(StandardCharsets.UTF_8);
+            out.writeUTF(message.messageId());
+            out.writeUTF(message.senderId());
+            out.writeLong(message.createdAt().getSeconds());
+            out.writeInt(message.createdAt().getNanos());
+            out.writeInt(content.length);
+            out.write(content);
+        }
+    }
+
+    private boolean loadSegment(Path file) {
+        byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(file);
+        } catch (IOException e) {
+            log.warn("Failed to read message segment {}", file, e);
+            return false;
+        }
+
+        ByteArrayInputStream buffer = new ByteArrayInputStream(bytes);
+        DataInputStream in = new DataInputStream(buffer);
+        String conversationId;
+        List<String> participantIds;
+        try {
+            if (in.readInt() != SEGMENT_MAGIC || in.readInt() != SEGMENT_VERSION) {
+                throw new IOException("Unknown segment format");
+            }
+            conversationId = in.readUTF();
+            int participantCount = in.readInt();
+            participantIds = new ArrayList<>(participantCount);
+            for (int i = 0; i < participantCount; i++) {
+                participantIds.add(in.readUTF());
+            }
+        } catch (IOException e) {
+            // Without a usable header nothing can be appended; the conversation is re-indexed on search
+            deleteQuietly(file);
+            log.warn("Deleted unreadable message segment {}", file, e);
+            return false;
+        }
+
+        ConversationSegment segment = segmentFor(conversationId, participantIds);
+        long validLength = bytes.length - buffer.available();
+        synchronized (segment) {
+            try {
+                while (buffer.available() > 0) {
+                    String messageId = in.readUTF();
+                    String senderId = in.readUTF();
+                    Timestamp createdAt = Timestamp.ofTimeSecondsAndNanos(in.readLong(), in.readInt());
+                    byte[] content = new byte[in.readInt()];
+                    in.readFully(content);
+
+                    append(segment, new IndexedMessage(messageId, conversationId, senderId,
+                            new String(content, StandardCharsets.UTF_8), createdAt));
+                    validLength = bytes.length - buffer.available();
+                }
+            } catch (IOException | NegativeArraySizeException e) {
+                // A flush was cut short; drop the partial record so later appends stay readable
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                    channel.truncate(validLength);
+                    log.warn("Truncated partial record at the end of message segment {}", file);
+                } catch (IOException truncateFailure) {
+                    log.warn("Failed to truncate message segment {}", file, truncateFailure);
+                }
+            }
+        }
+        return true;
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete message segment {}", file, e);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package org.example.Broomate.index;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.Broomate.event.SwipeRecordedEvent;
+import org.example.Broomate.model.Swipe;
+import org.example.Broomate.repository.TenantRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reverse adjacency of pending likes: target tenant -> tenants who swiped right on them
+ * and have not been swiped back yet. Rebuilt from the swipes collection at startup and
+ * kept current from SwipeRecordedEvent. Events arriving while the snapshot is being read
+ * are held back and replayed on top of it, so a stale snapshot cannot undo them.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PendingLikeIndex {
+
+    private final TenantRepository tenantRepository;
+
+    private final Map<String, Set<String>> likersByTarget = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    // Events received during rebuild, in arrival order; null when not rebuilding. Guarded by this
+    private List<SwipeRecordedEvent> pendingEvents;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (this) {
+            pendingEvents = new ArrayList<>();
+        }
+
+        try {
+            List<Swipe> swipes = tenantRepository.findAllSwipes();
+
+            synchronized (this) {
+                // 1. Every right swipe is a like on its target
+                swipes.stream()
+                        .filter(swipe -> Swipe.SwipeActionEnum.ACCEPT.equals(swipe.getAction()))
+                        .forEach(swipe -> likersOf(swipe.getTargetId()).add(swipe.getSwiperId()));
+
+                // 2. A like stops being pending once the target swiped back (either way)
+                swipes.forEach(swipe -> removeLike(swipe.getSwiperId(), swipe.getTargetId()));
+
+                // 3. Swipes recorded since the query started; replaying one the snapshot already has is harmless
+                pendingEvents.forEach(this::apply);
+                log.info("Pending like index rebuilt from {} swipes and {} live events",
+                        swipes.size(), pendingEvents.size());
+                pendingEvents = null;
+            }
+
+            ready = true;
+        } catch (RuntimeException e) {
+            // Mutual detection and "who liked me" fall back to Firestore queries
+            synchronized (this) {
+                pendingEvents = null;
+            }
+            log.error("Failed to rebuild pending like index", e);
+        }
+    }
+
+    @EventListener
+    public synchronized void onSwipeRecorded(SwipeRecordedEvent event) {
+        if (pendingEvents != null) {
+            pendingEvents.add(event);
+            return;
+        }
+        apply(event);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Whether liker swiped right on target and target has not swiped back yet
+     */
+    public boolean hasPendingLike(String targetId, String likerId) {
+        Set<String> likers = likersByTarget.get(targetId);
+        return likers != null && likers.contains(likerId);
+    }
+
+    /**
+     * Tenants waiting for this tenant to swipe back
+     */
+    public Set<String> findLikers(String targetId) {
+        Set<String> likers = likersByTarget.get(targetId);
+        return likers != null ? Set.copyOf(likers) : Set.of();
+    }
+
+    // ========================================
+    // PRIVATE HELPER METHODS
+    // ========================================
+
+    // Caller holds the monitor
+    private void apply(SwipeRecordedEvent event) {
+        // The swiper has now answered any like from the target
+        removeLike(event.getSwiperId(), event.getTargetId());
+
+        if (Swipe.SwipeActionEnum.ACCEPT.equals(event.getAction())) {
+            likersOf(event.getTargetId()).add(event.getSwiperId());
+        }
+    }
+
+    private Set<String> likersOf(String targetId) {
+        return likersByTarget.computeIfAbsent(targetId, id -> ConcurrentHashMap.newKeySet());
+    }
+
+    private void removeLike(String targetId, String likerId) {
+        Set<String> likers = likersByTarget.get(targetId);
+        if (likers != null) {
+            likers.remove(likerId);
+            if (likers.isEmpty()) {
+                likersByTarget.remove(targetId);
+            }
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package org.example.Broomate.index;
+
+import org.example.Broomate.model.Room;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Columnar index over published room attributes.
+ * Price and minimum stay live in sorted range indexes, bedroom/toilet counts in one bitmap
+ * per distinct value, hasWindow in a bitmap; a filter is evaluated by intersecting bitmaps.
+ */
+@Component
+public class RoomAttributeIndex implements RoomIndexListener {
+
+    private final SortedRangeIndex prices = new SortedRangeIndex();
+    private final SortedRangeIndex minimumStays = new SortedRangeIndex();
+    private final Map<Integer, BitSet> bedRoomBitmaps = new HashMap<>();
+    private final Map<Integer, BitSet> toiletBitmaps = new HashMap<>();
+    private final BitSet withWindow = new BitSet();
+    private final BitSet indexed = new BitSet();
+
+    // Sort columns
+    private double[] priceColumn = new double[64];
+    private long[] createdAtColumn = new long[64];
+    private int[] bedRoomColumn = new int[64];
+    private int[] toiletColumn = new int[64];
+
+    private final AtomicLong version = new AtomicLong();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Override
+    public void onUpsert(int ordinal, Room room) {
+        lock.writeLock().lock();
+        try {
+            clear(ordinal);
+            ensureCapacity(ordinal);
+
+            double price = room.getRentPricePerMonth() != null ? room.getRentPricePerMonth() : Double.NaN;
+            priceColumn[ordinal] = price;
+            if (!Double.isNaN(price)) {
+                prices.put(ordinal, price);
+            }
+            minimumStays.put(ordinal, room.getMinimumStayMonths() != null ? room.getMinimumStayMonths() : 0);
+
+            bedRoomColumn[ordinal] = room.getNumberOfBedRooms() != null ? room.getNumberOfBedRooms() : -1;
+            toiletColumn[ordinal] = room.getNumberOfToilets() != null ? room.getNumberOfToilets() : -1;
+            if (bedRoomColumn[ordinal] >= 0) {
+                bedRoomBitmaps.computeIfAbsent(bedRoomColumn[ordinal], key -> new BitSet()).set(ordinal);
+            }
+            if (toiletColumn[ordinal] >= 0) {
+                toiletBitmaps.computeIfAbsent(toiletColumn[ordinal], key -> new BitSet()).set(ordinal);
+            }
+
+            withWindow.set(ordinal, room.isHasWindow());
+            createdAtColumn[ordinal] = room.getCreatedAt() != null ? room.getCreatedAt().getSeconds() : 0L;
+            indexed.set(ordinal);
+            version.incrementAndGet();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onRemove(int ordinal) {
+        lock.writeLock().lock();
+        try {
+            clear(ordinal);
+            version.incrementAndGet();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Changes on every upsert/remove; lets callers cache query results safely
+     */
+    public long version() {
+        return version.get();
+    }
+
+    /**
+     * Ordinals of rooms matching the filter, in the filter's sort order
+     */
+    public int[] search(RoomFilter filter) {
+        lock.readLock().lock();
+        try {
+            BitSet result = (BitSet) indexed.clone();
+
+            if (filter.getMinPrice() != null || filter.getMaxPrice() != null) {
+                result.and(prices.range(
+                        filter.getMinPrice() != null ? filter.getMinPrice() : Double.NEGATIVE_INFINITY,
+                        filter.getMaxPrice() != null ? filter.getMaxPrice() : Double.POSITIVE_INFINITY));
+            }
+            if (filter.getMaxMinimumStayMonths() != null) {
+                result.and(minimumStays.range(Double.NEGATIVE_INFINITY, filter.getMaxMinimumStayMonths()));
+            }
+            if (filter.getMinBedRooms() != null || filter.getMaxBedRooms() != null) {
+                result.and(valueRange(bedRoomBitmaps, filter.getMinBedRooms(), filter.getMaxBedRooms()));
+            }
+            if (filter.getMinToilets() != null || filter.getMaxToilets() != null) {
+                result.and(valueRange(toiletBitmaps, filter.getMinToilets(), filter.getMaxToilets()));
+            }
+            if (filter.getHasWindow() != null) {
+                if (filter.getHasWindow()) {
+                    result.and(withWindow);
+                } else {
+                    result.andNot(withWindow);
+                }
+            }
+
+            return sort(result, filter.getSort());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ========================================
+    // PRIVATE HELPER METHODS
+    // ========================================
+
+    private BitSet valueRange(Map<Integer, BitSet> bitmaps, Integer min, Integer max) {
+        int low = min != null ? min : Integer.MIN_VALUE;
+        int high = max != null ? max : Integer.MAX_VALUE;
+
+        BitSet union = new BitSet();
+        bitmaps.forEach((value, bitmap) -> {
+            if (value >= low && value <= high) {
+                union.or(bitmap);
+            }
+        });
+        return union;
+    }
+
+    private int[] sort(BitSet result, RoomFilter.Sort sort) {
+        Integer[] ordinals = result.stream().boxed().toArray(Integer[]::new);
+
+        Comparator<Integer> newest = Comparator.comparingLong((Integer i) -> createdAtColumn[i]).reversed();
+        // Rooms without a price go last in both directions
+        Comparator<Integer> unpricedLast = Comparator.comparing((Integer i) -> Double.isNaN(priceColumn[i]));
+        Comparator<Integer> byPrice = Comparator.comparingDouble(i -> priceColumn[i]);
+        Comparator<Integer> comparator = switch (sort == null ? RoomFilter.Sort.NEWEST : sort) {
+            case PRICE_ASC -> unpricedLast.thenComparing(byPrice).thenComparing(newest);
+            case PRICE_DESC -> unpricedLast.thenComparing(byPrice.reversed()).thenComparing(newest);
+            case NEWEST -> newest;
+        };
+
+        Arrays.sort(ordinals, comparator);
+        return Arrays.stream(ordinals).mapToInt(Integer::intValue).toArray();
+    }
+
+    // Caller holds the write lock
+    private void clear(int ordinal) {
+        if (!indexed.get(ordinal)) {
+            return;
+        }
+
+        prices.remove(ordinal);
+        minimumStays.remove(ordinal);
+        removeFrom(bedRoomBitmaps, bedRoomColumn[ordinal], ordinal);
+        removeFrom(toiletBitmaps, toiletColumn[ordinal], ordinal);
+        withWindow.clear(ordinal);
+        indexed.clear(ordinal);
+    }
+
+    private void removeFrom(Map<Integer, BitSet> bitmaps, int value, int ordinal) {
+        BitSet bitmap = bitmaps.get(value);
+        if (bitmap != null) {
+            bitmap.clear(ordinal);
+            if (bitmap.isEmpty()) {
+                bitmaps.remove(value);
+            }
+        }
+    }
+
+    private void ensureCapacity(int ordinal) {
+        if (ordinal >= priceColumn.length) {
+            int size = Math.max(ordinal + 1, priceColumn.length * 2);
+            priceColumn = Arrays.copyOf(priceColumn, size);
+            createdAtColumn = Arrays.copyOf(createdAtColumn, size);
+            bedRoomColumn = Arrays.copyOf(bedRoomColumn, size);
+            toiletColumn = Arrays.copyOf(toiletColumn, size);
+        }
+    }
+}
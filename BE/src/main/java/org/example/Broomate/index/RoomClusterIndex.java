@@ -0,0 +1,203 @@
+package org.example.Broomate.index;
+
+import org.example.Broomate.model.Room;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Hierarchical grid of published rooms for map marker clustering. Every zoom level from
+ * MIN_ZOOM to MAX_ZOOM keeps one aggregate per non-empty cell (count, coordinate sums,
+ * price multiset), about CELLS_PER_TILE cells across a 256px map tile, updated incrementally
+ * on each room change. A cluster query is a walk over one level's cells in the viewport.
+ */
+@Component
+public class RoomClusterIndex implements RoomIndexListener {
+
+    public static final int MIN_ZOOM = 2;
+    public static final int MAX_ZOOM = 18;
+    private static final int CELLS_PER_TILE = 4;
+
+    private final List<Map<Long, CellAggregate>> levels = new ArrayList<>();
+    private double[] latitudes = new double[64];
+    private double[] longitudes = new double[64];
+    private double[] prices = new double[64];
+    private final BitSet located = new BitSet();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * A marker cluster: centroid, room count and price range. ordinal is set only for a single room.
+     */
+    public record Cluster(double latitude, double longitude, int count,
+                          Double minPrice, Double maxPrice, Integer ordinal) {
+    }
+
+    private static final class CellAggregate {
+        int count;
+        double latitudeSum;
+        double longitudeSum;
+        long ordinalSum;       // Equals the only ordinal when count == 1
+        final TreeMap<Double, Integer> prices = new TreeMap<>();
+    }
+
+    public RoomClusterIndex() {
+        for (int zoom = MIN_ZOOM; zoom <= MAX_ZOOM; zoom++) {
+            levels.add(new HashMap<>());
+        }
+    }
+
+    @Override
+    public void onUpsert(int ordinal, Room room) {
+        lock.writeLock().lock();
+        try {
+            clear(ordinal);
+
+            Double lat = room.getLatitude();
+            Double lon = room.getLongitude();
+            if (lat == null || lon == null || Math.abs(lat) > 90 || Math.abs(lon) > 180) {
+                return;
+            }
+
+            ensureCapacity(ordinal);
+            latitudes[ordinal] = lat;
+            longitudes[ordinal] = lon;
+            prices[ordinal] = room.getRentPricePerMonth() != null ? room.getRentPricePerMonth() : Double.NaN;
+            located.set(ordinal);
+
+            for (int zoom = MIN_ZOOM; zoom <= MAX_ZOOM; zoom++) {
+                double cellDegrees = cellDegrees(zoom);
+                CellAggregate cell = levels.get(zoom - MIN_ZOOM).computeIfAbsent(
+                        cellKey(cell(lat, cellDegrees), cell(lon, cellDegrees)), key -> new CellAggregate());
+                cell.count++;
+                cell.latitudeSum += lat;
+                cell.longitudeSum += lon;
+                cell.ordinalSum += ordinal;
+                if (!Double.isNaN(prices[ordinal])) {
+                    cell.prices.merge(prices[ordinal], 1, Integer::sum);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onRemove(int ordinal) {
+        lock.writeLock().lock();
+        try {
+            clear(ordinal);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Clusters whose cell lies in the bounding box at the given zoom (clamped to the indexed levels)
+     */
+    public List<Cluster> clusters(double minLat, double minLon, double maxLat, double maxLon, int zoom) {
+        int level = Math.max(MIN_ZOOM, Math.min(zoom, MAX_ZOOM));
+        double cellDegrees = cellDegrees(level);
+        int minLatCell = cell(minLat, cellDegrees);
+        int maxLatCell = cell(maxLat, cellDegrees);
+        int minLonCell = cell(minLon, cellDegrees);
+        int maxLonCell = cell(maxLon, cellDegrees);
+
+        lock.readLock().lock();
+        try {
+            Map<Long, CellAggregate> cells = levels.get(level - MIN_ZOOM);
+            List<Cluster> clusters = new ArrayList<>();
+            long cellCount = (long) (maxLatCell - minLatCell + 1) * (maxLonCell - minLonCell + 1);
+
+            // Large areas: walk the non-empty cells instead of probing every cell in the range
+            if (cellCount > cells.size()) {
+                cells.forEach((key, cell) -> {
+                    int latCell = (int) (key >> 32);
+                    int lonCell = (int) (long) key;
+                    if (latCell >= minLatCell && latCell <= maxLatCell && lonCell >= minLonCell && lonCell <= maxLonCell) {
+                        clusters.add(toCluster(cell));
+                    }
+                });
+            } else {
+                for (int latCell = minLatCell; latCell <= maxLatCell; latCell++) {
+                    for (int lonCell = minLonCell; lonCell <= maxLonCell; lonCell++) {
+                        CellAggregate cell = cells.get(cellKey(latCell, lonCell));
+                        if (cell != null) {
+                            clusters.add(toCluster(cell));
+                        }
+                    }
+                }
+            }
+            return clusters;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ========================================
+    // PRIVATE HELPER METHODS
+    // ========================================
+
+    private Cluster toCluster(CellAggregate cell) {
+        return new Cluster(
+                cell.latitudeSum / cell.count,
+                cell.longitudeSum / cell.count,
+                cell.count,
+                cell.prices.isEmpty() ? null : cell.prices.firstKey(),
+                cell.prices.isEmpty() ? null : cell.prices.lastKey(),
+                cell.count == 1 ? (int) cell.ordinalSum : null);
+    }
+
+    // Caller holds the write lock
+    private void clear(int ordinal) {
+        if (!located.get(ordinal)) {
+            return;
+        }
+
+        double lat = latitudes[ordinal];
+        double lon = longitudes[ordinal];
+        for (int zoom = MIN_ZOOM; zoom <= MAX_ZOOM; zoom++) {
+            double cellDegrees = cellDegrees(zoom);
+            Map<Long, CellAggregate> cells = levels.get(zoom - MIN_ZOOM);
+            long key = cellKey(cell(lat, cellDegrees), cell(lon, cellDegrees));
+            CellAggregate cell = cells.get(key);
+            if (cell == null) {
+                continue;
+            }
+
+            if (--cell.count == 0) {
+                cells.remove(key);
+                continue;
+            }
+            cell.latitudeSum -= lat;
+            cell.longitudeSum -= lon;
+            cell.ordinalSum -= ordinal;
+            if (!Double.isNaN(prices[ordinal])) {
+                cell.prices.computeIfPresent(prices[ordinal], (price, n) -> n > 1 ? n - 1 : null);
+            }
+        }
+        located.clear(ordinal);
+    }
+
+    private void ensureCapacity(int ordinal) {
+        if (ordinal >= latitudes.length) {
+            int size = Math.max(ordinal + 1, latitudes.length * 2);
+            latitudes = Arrays.copyOf(latitudes, size);
+            longitudes = Arrays.copyOf(longitudes, size);
+            prices = Arrays.copyOf(prices, size);
+        }
+    }
+
+    // A 256px tile spans 360 / 2^zoom degrees of longitude
+    private static double cellDegrees(int zoom) {
+        return 360.0 / (1L << zoom) / CELLS_PER_TILE;
+    }
+
+    private static int cell(double degrees, double cellDegrees) {
+        return (int) Math.floor(degrees / cellDegrees);
+    }
+
+    private static long cellKey(int latCell, int lonCell) {
+        return ((long) latCell << 32) | (lonCell & 0xffffffffL);
+    }
+}
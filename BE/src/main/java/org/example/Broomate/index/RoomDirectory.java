@@ -0,0 +1,165 @@
+package org.example.Broomate.index;
+
+import com.google.cloud.Timestamp;
+import lombok.extern.slf4j.Slf4j;
+import org.example.Broomate.event.RoomChangedEvent;
+import org.example.Broomate.model.Room;
+import org.example.Broomate.repository.AllAuthUserRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory directory of published rooms backing the room search indexes.
+ * Every room gets a stable int ordinal; loaded once at startup and kept current
+ * from RoomChangedEvent (this instance only).
+ */
+@Slf4j
+@Component
+public class RoomDirectory {
+
+    private final AllAuthUserRepository allAuthUserRepository;
+    private final List<RoomIndexListener> listeners;
+
+    private final Map<String, Integer> ordinals = new ConcurrentHashMap<>();
+    private final List<Room> rooms = new ArrayList<>();     // ordinal -> latest snapshot
+    private final BitSet published = new BitSet();
+    private final AtomicLong version = new AtomicLong();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready;
+
+    public RoomDirectory(AllAuthUserRepository allAuthUserRepository, List<RoomIndexListener> listeners) {
+        this.allAuthUserRepository = allAuthUserRepository;
+        this.listeners = listeners;
+    }
+
+    // ========================================
+    // LOADING & UPDATES
+    // ========================================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            List<Room> publishedRooms = allAuthUserRepository.findAllPublishedRooms();
+            publishedRooms.forEach(this::upsert);
+            ready = true;
+            log.info("Room directory loaded with {} published rooms", publishedRooms.size());
+        } catch (RuntimeException e) {
+            // Room search endpoints answer 503 until the next restart
+            log.error("Failed to load room directory", e);
+        }
+    }
+
+    @EventListener
+    public void onRoomChanged(RoomChangedEvent event) {
+        upsert(event.getRoom());
+    }
+
+    /**
+     * Insert or replace a room; stale snapshots (older updatedAt) are ignored
+     */
+    public void upsert(Room room) {
+        lock.writeLock().lock();
+        try {
+            int ordinal = ordinalFor(room.getId());
+            Room current = rooms.get(ordinal);
+            if (current != null && isOlder(room.getUpdatedAt(), current.getUpdatedAt())) {
+                return;
+            }
+
+            rooms.set(ordinal, room);
+            version.incrementAndGet();
+            if (room.getStatus() == Room.RoomStatus.PUBLISHED) {
+                published.set(ordinal);
+                listeners.forEach(listener -> listener.onUpsert(ordinal, room));
+            } else if (published.get(ordinal)) {
+                published.clear(ordinal);
+                listeners.forEach(listener -> listener.onRemove(ordinal));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ========================================
+    // LOOKUPS
+    // ========================================
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Changes whenever a room snapshot is replaced; read it before reading rooms to detect staleness
+     */
+    public long version() {
+        return version.get();
+    }
+
+    /**
+     * Ordinal of a room, or -1 when the room has never been seen
+     */
+    public int ordinalOf(String roomId) {
+        Integer ordinal = ordinals.get(roomId);
+        return ordinal != null ? ordinal : -1;
+    }
+
+    /**
+     * Published room at an ordinal, or null when it is not published
+     */
+    public Room roomAt(int ordinal) {
+        lock.readLock().lock();
+        try {
+            return published.get(ordinal) ? rooms.get(ordinal) : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Copy of the published room bitmap
+     */
+    public BitSet publishedOrdinals() {
+        lock.readLock().lock();
+        try {
+            return (BitSet) published.clone();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int publishedCount() {
+        lock.readLock().lock();
+        try {
+            return published.cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ========================================
+    // PRIVATE HELPER METHODS
+    // ========================================
+
+    // Caller holds the write lock
+    private int ordinalFor(String roomId) {
+        Integer ordinal = ordinals.get(roomId);
+        if (ordinal != null) {
+            return ordinal;
+        }
+
+        rooms.add(null);
+        ordinal = rooms.size() - 1;
+        ordinals.put(roomId, ordinal);
+        return ordinal;
+    }
+
+    private boolean isOlder(Timestamp incoming, Timestamp current) {
+        return incoming != null && current != null && incoming.compareTo(current) < 0;
+    }
+}
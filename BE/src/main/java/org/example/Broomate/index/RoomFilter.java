@@ -0,0 +1,30 @@
+package org.example.Broomate.index;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Normalized room search filter; null fields do not restrict the result.
+ * Value semantics make it usable as a query cache key.
+ */
+@Value
+@Builder
+public class RoomFilter {
+
+    Double minPrice;
+    Double maxPrice;
+    Integer maxMinimumStayMonths;   // Rooms whose minimum stay fits the tenant's stay length
+    Integer minBedRooms;
+    Integer maxBedRooms;
+    Integer minToilets;
+    Integer maxToilets;
+    Boolean hasWindow;
+    @Builder.Default
+    Sort sort = Sort.NEWEST;
+
+    public enum Sort {
+        NEWEST,
+        PRICE_ASC,
+        PRICE_DESC
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.Broomate.index;
+
+import org.example.Broomate.model.Room;
+
+/**
+ * Secondary index over the published room directory, keyed by room ordinal.
+ * Callbacks are invoked while the directory holds its write lock, one room at a time.
+ */
+public interface RoomIndexListener {
+
+    /**
+     * Room at this ordinal is published with the given data (insert or replace)
+     */
+    void onUpsert(int ordinal, Room room);
+
+    /**
+     * Room at this ordinal is no longer published
+     */
+    void onRemove(int ordinal);
+}
@@ -0,0 +1,277 @@
+package org.example.Broomate.index;
+
+import org.example.Broomate.model.Room;
+import org.example.Broomate.model.Tenant;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Columnar snapshot of the room attributes a tenant's criteria are scored against.
+ * Scoring is one pass over primitive columns with a bounded min-heap for the top K.
+ */
+@Component
+public class RoomRecommendationIndex implements RoomIndexListener {
+
+    // Weights sum to 1, so a score is in [0, 1]
+    private static final double BUDGET_WEIGHT = 0.35;
+    private static final double DISTRICT_WEIGHT = 0.20;
+    private static final double STAY_WEIGHT = 0.15;
+    private static final double WINDOW_WEIGHT = 0.10;
+    private static final double BEDROOM_WEIGHT = 0.10;
+    private static final double TOILET_WEIGHT = 0.10;
+
+    // A room this far (as a fraction of the budget) over budget scores zero on price
+    private static final double OVER_BUDGET_TOLERANCE = 0.5;
+
+    private double[] priceColumn = new double[64];
+    private int[] minimumStayColumn = new int[64];
+    private int[] bedRoomColumn = new int[64];
+    private int[] toiletColumn = new int[64];
+    private String[] addressColumn = new String[64];    // Folded, space-padded, "quan" -> "district"
+    private final BitSet withWindow = new BitSet();
+    private final BitSet indexed = new BitSet();
+
+    // District key -> rooms whose address mentions it; cleared on every room change
+    private final Map<String, BitSet> districtMatches = new ConcurrentHashMap<>();
+
+    private final AtomicLong version = new AtomicLong();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * A room ordinal and its match score in [0, 1]
+     */
+    public record ScoredRoom(int ordinal, double score) {
+    }
+
+    @Override
+    public void onUpsert(int ordinal, Room room) {
+        lock.writeLock().lock();
+        try {
+            ensureCapacity(ordinal);
+            priceColumn[ordinal] = room.getRentPricePerMonth() != null ? room.getRentPricePerMonth() : Double.NaN;
+            minimumStayColumn[ordinal] = room.getMinimumStayMonths() != null ? room.getMinimumStayMonths() : 0;
+            bedRoomColumn[ordinal] = room.getNumberOfBedRooms() != null ? room.getNumberOfBedRooms() : 0;
+            toiletColumn[ordinal] = room.getNumberOfToilets() != null ? room.getNumberOfToilets() : 0;
+            addressColumn[ordinal] = districtKey(room.getAddress());
+            withWindow.set(ordinal, room.isHasWindow());
+            indexed.set(ordinal);
+            districtMatches.clear();
+            version.incrementAndGet();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onRemove(int ordinal) {
+        lock.writeLock().lock();
+        try {
+            indexed.clear(ordinal);
+            addressColumn[ordinal] = null;
+            districtMatches.clear();
+            version.incrementAndGet();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Changes on every upsert/remove; lets callers cache recommendations safely
+     */
+    public long version() {
+        return version.get();
+    }
+
+    /**
+     * The best {@code limit} rooms for the tenant's criteria, highest score first
+     */
+    public List<ScoredRoom> recommend(Tenant tenant, int limit) {
+        double budget = tenant.getBudgetPerMonth() != null ? tenant.getBudgetPerMonth() : 0;
+        int stayLength = tenant.getStayLengthMonths() != null ? tenant.getStayLengthMonths() : 0;
+        boolean needWindow = tenant.isNeedWindow();
+        boolean ownBedRoom = !tenant.isMightShareBedRoom();
+        boolean ownToilet = !tenant.isMightShareToilet();
+        List<String> districts = tenant.getPreferredDistricts() != null ? tenant.getPreferredDistricts() : List.of();
+
+        lock.readLock().lock();
+        try {
+            int size = indexed.length();
+            double[] scores = new double[size];
+
+            // Criteria the tenant left open count as fully satisfied
+            double base = (budget > 0 ? 0 : BUDGET_WEIGHT)
+                    + (stayLength > 0 ? 0 : STAY_WEIGHT)
+                    + (needWindow ? 0 : WINDOW_WEIGHT)
+                    + (ownBedRoom ? 0 : BEDROOM_WEIGHT)
+                    + (ownToilet ? 0 : TOILET_WEIGHT)
+                    + (districts.isEmpty() ? DISTRICT_WEIGHT : 0);
+            Arrays.fill(scores, base);
+
+            if (budget > 0) {
+                double overBudgetRange = budget * OVER_BUDGET_TOLERANCE;
+                for (int i = 0; i < size; i++) {
+                    double price = priceColumn[i];
+                    if (price <= budget) {
+                        scores[i] += BUDGET_WEIGHT;
+                    } else if (price < budget + overBudgetRange) {
+                        scores[i] += BUDGET_WEIGHT * (1 - (price - budget) / overBudgetRange);
+                    }
+                }
+            }
+            if (stayLength > 0) {
+                for (int i = 0; i < size; i++) {
+                    if (minimumStayColumn[i] <= stayLength) {
+                        scores[i] += STAY_WEIGHT;
+                    }
+                }
+            }
+            if (needWindow) {
+                addWhere(scores, withWindow, WINDOW_WEIGHT);
+            }
+            // A tenant who won't share needs a room with at least two (one each for them and a roommate)
+            if (ownBedRoom) {
+                for (int i = 0; i < size; i++) {
+                    if (bedRoomColumn[i] >= 2) {
+                        scores[i] += BEDROOM_WEIGHT;
+                    }
+                }
+            }
+            if (ownToilet) {
+                for (int i = 0; i < size; i++) {
+                    if (toiletColumn[i] >= 2) {
+                        scores[i] += TOILET_WEIGHT;
+                    }
+                }
+            }
+            if (!districts.isEmpty()) {
+                BitSet inDistrict = new BitSet();
+                for (String district : districts) {
+                    inDistrict.or(roomsInDistrict(district));
+                }
+                addWhere(scores, inDistrict, DISTRICT_WEIGHT);
+            }
+
+            return topK(scores, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ========================================
+    // PRIVATE HELPER METHODS
+    // ========================================
+
+    private void addWhere(double[] scores, BitSet rooms, double weight) {
+        for (int i = rooms.nextSetBit(0); i >= 0 && i < scores.length; i = rooms.nextSetBit(i + 1)) {
+            scores[i] += weight;
+        }
+    }
+
+    // Caller holds the read lock
+    private BitSet roomsInDistrict(String district) {
+        String key = districtKey(district);
+        if (key.isBlank()) {
+            return new BitSet();
+        }
+
+        return districtMatches.computeIfAbsent(key, k -> {
+            BitSet matches = new BitSet();
+            for (int i = indexed.nextSetBit(0); i >= 0; i = indexed.nextSetBit(i + 1)) {
+                if (addressColumn[i] != null && addressColumn[i].contains(k)) {
+                    matches.set(i);
+                }
+            }
+            return matches;
+        });
+    }
+
+    private List<ScoredRoom> topK(double[] scores, int limit) {
+        int[] heap = new int[Math.max(1, limit)];     // Min-heap of ordinals by score
+        int heapSize = 0;
+
+        for (int i = indexed.nextSetBit(0); i >= 0; i = indexed.nextSetBit(i + 1)) {
+            if (heapSize < limit) {
+                heap[heapSize] = i;
+                siftUp(heap, heapSize++, scores);
+            } else if (scores[i] > scores[heap[0]]) {
+                heap[0] = i;
+                siftDown(heap, heapSize, scores);
+            }
+        }
+
+        List<ScoredRoom> result = new ArrayList<>(heapSize);
+        for (int k = 0; k < heapSize; k++) {
+            result.add(new ScoredRoom(heap[k], scores[heap[k]]));
+        }
+        result.sort(Comparator.comparingDouble(ScoredRoom::score).reversed()
+                .thenComparingInt(ScoredRoom::ordinal));
+        return result;
+    }
+
+    private void siftUp(int[] heap, int index, double[] scores) {
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+            if (scores[heap[parent]] <= scores[heap[index]]) {
+                return;
+            }
+            swap(heap, parent, index);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int[] heap, int size, double[] scores) {
+        int index = 0;
+        while (true) {
+            int smallest = index;
+            int left = 2 * index + 1;
+            int right = left + 1;
+            if (left < size && scores[heap[left]] < scores[heap[smallest]]) {
+                smallest = left;
+            }
+            if (right < size && scores[heap[right]] < scores[heap[smallest]]) {
+                smallest = right;
+            }
+            if (smallest == index) {
+                return;
+            }
+            swap(heap, smallest, index);
+            index = smallest;
+        }
+    }
+
+    private void swap(int[] heap, int a, int b) {
+        int tmp = heap[a];
+        heap[a] = heap[b];
+        heap[b] = tmp;
+    }
+
+    /**
+     * Folded, space-padded tokens with "quan" read as "district", so "Quận 1" matches "District 1"
+     * and " district 1 " does not match inside " district 10 "
+     */
+    private static String districtKey(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder key = new StringBuilder(" ");
+        for (String token : TextAnalyzer.tokenize(text)) {
+            key.append("quan".equals(token) ? "district" : token).append(' ');
+        }
+        return key.toString();
+    }
+
+    private void ensureCapacity(int ordinal) {
+        if (ordinal >= priceColumn.length) {
+            int size = Math.max(ordinal + 1, priceColumn.length * 2);
+            priceColumn = Arrays.copyOf(priceColumn, size);
+            minimumStayColumn = Arrays.copyOf(minimumStayColumn, size);
+            bedRoomColumn = Arrays.copyOf(bedRoomColumn, size);
+            toiletColumn = Arrays.copyOf(toiletColumn, size);
+            addressColumn = Arrays.copyOf(addressColumn, size);
+        }
+    }
+}
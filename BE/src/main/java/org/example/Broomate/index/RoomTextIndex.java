@@ -0,0 +1,285 @@
+package org.example.Broomate.index;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.Broomate.model.Room;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Embedded inverted index over room title, description and address with BM25 ranking.
+ * Title terms count twice. The analyzed term vectors are persisted to a local segment file;
+ * on restart a room whose updatedAt matches the segment reuses its stored vector instead of
+ * being analyzed again.
+ */
+@Slf4j
+@Component
+public class RoomTextIndex implements RoomIndexListener {
+
+    private static final int SEGMENT_MAGIC = 0x42524d54;    // "BRMT"
+    private static final int SEGMENT_VERSION = 1;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int TITLE_WEIGHT = 2;
+
+    private final Path segmentFile;
+
+    private final Map<String, Map<Integer, Integer>> postings = new HashMap<>();   // term -> ordinal -> tf
+    private final Map<Integer, IndexedDoc> docs = new HashMap<>();
+    private final Map<String, IndexedDoc> storedDocs = new HashMap<>();          // From the segment file, by room ID
+    private long totalLength;
+    private boolean dirty;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * A room ordinal and its BM25 score
+     */
+    public record TextHit(int ordinal, double score) {
+    }
+
+    private record IndexedDoc(String roomId, long updatedSeconds, int updatedNanos,
+                              Map<String, Integer> termFrequencies, int length) {
+    }
+
+    public RoomTextIndex(@Value("${broomate.search.index-dir:./data/search}") String indexDir) {
+        this.segmentFile = Paths.get(indexDir, "rooms.seg");
+    }
+
+    // ========================================
+    // INDEX MAINTENANCE
+    // ========================================
+
+    @Override
+    public void onUpsert(int ordinal, Room room) {
+        long updatedSeconds = room.getUpdatedAt() != null ? room.getUpdatedAt().getSeconds() : 0L;
+        int updatedNanos = room.getUpdatedAt() != null ? room.getUpdatedAt().getNanos() : 0;
+
+        lock.writeLock().lock();
+        try {
+            IndexedDoc stored = storedDocs.remove(room.getId());
+            IndexedDoc doc = stored != null
+                    && stored.updatedSeconds() == updatedSeconds && stored.updatedNanos() == updatedNanos
+                    ? stored
+                    : analyze(room, updatedSeconds, updatedNanos);
+
+            clear(ordinal);
+            docs.put(ordinal, doc);
+            totalLength += doc.length();
+            doc.termFrequencies().forEach((term, tf) ->
+                    postings.computeIfAbsent(term, key -> new HashMap<>()).put(ordinal, tf));
+            dirty = dirty || doc != stored;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onRemove(int ordinal) {
+        lock.writeLock().lock();
+        try {
+            clear(ordinal);
+            dirty = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ========================================
+    // SEARCH
+    // ========================================
+
+    /**
+     * Rooms matching any query term, best BM25 score first
+     */
+    public List<TextHit> search(String query, int limit) {
+        Set<String> terms = new LinkedHashSet<>(TextAnalyzer.tokenize(query));
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            int docCount = docs.size();
+            double averageLength = docCount == 0 ? 0 : (double) totalLength / docCount;
+            Map<Integer, Double> scores = new HashMap<>();
+
+            for (String term : terms) {
+                Map<Integer, Integer> termPostings = postings.get(term);
+                if (termPostings == null) {
+                    continue;
+                }
+
+                double idf = Math.log(1 + (docCount - termPostings.size() + 0.5) / (termPostings.size() + 0.5));
+                termPostings.forEach((ordinal, tf) -> {
+                    double norm = K1 * (1 - B + B * docs.get(ordinal).length() / averageLength);
+                    scores.merge(ordinal, idf * tf * (K1 + 1) / (tf + norm), Double::sum);
+                });
+            }
+
+            // Min-heap of the best `limit` hits
+            PriorityQueue<TextHit> best = new PriorityQueue<>(Comparator.comparingDouble(TextHit::score));
+            scores.forEach((ordinal, score) -> {
+                best.add(new TextHit(ordinal, score));
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            });
+
+            List<TextHit> hits = new ArrayList<>(best);
+            hits.sort(Comparator.comparingDouble(TextHit::score).reversed());
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ========================================
+    // SEGMENT PERSISTENCE
+    // ========================================
+
+    /**
+     * Load stored term vectors before the room directory starts feeding rooms in
+     */
+    @PostConstruct
+    public void loadSegment() {
+        if (!Files.exists(segmentFile)) {
+            log.info("No room text segment at {}, rooms will be analyzed on load", segmentFile);
+            return;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(segmentFile))))) {
+            if (in.readInt() != SEGMENT_MAGIC || in.readInt() != SEGMENT_VERSION) {
+                log.warn("Ignoring room text segment with unknown format: {}", segmentFile);
+                return;
+            }
+
+            int docCount = in.readInt();
+            for (int i = 0; i < docCount; i++) {
+                String roomId = in.readUTF();
+                long updatedSeconds = in.readLong();
+                int updatedNanos = in.readInt();
+                int termCount = in.readInt();
+                Map<String, Integer> termFrequencies = new HashMap<>(termCount * 2);
+                int length = 0;
+                for (int t = 0; t < termCount; t++) {
+                    String term = in.readUTF();
+                    int tf = in.readInt();
+                    termFrequencies.put(term, tf);
+                    length += tf;
+                }
+                storedDocs.put(roomId, new IndexedDoc(roomId, updatedSeconds, updatedNanos, termFrequencies, length));
+            }
+            log.info("Loaded {} room term vectors from {}", docCount, segmentFile);
+        } catch (IOException e) {
+            storedDocs.clear();
+            log.warn("Failed to read room text segment {}, rooms will be analyzed on load", segmentFile, e);
+        }
+    }
+
+    /**
+     * Write the segment when the index changed since the last flush
+     */
+    @Scheduled(fixedDelayString = "${broomate.search.flush-interval-ms:60000}")
+    @PreDestroy
+    public void flushSegment() {
+        List<IndexedDoc> snapshot;
+        lock.writeLock().lock();
+        try {
+            if (!dirty) {
+                return;
+            }
+            snapshot = new ArrayList<>(docs.values());
+            dirty = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            Files.createDirectories(segmentFile.getParent());
+            Path tempFile = segmentFile.resolveSibling(segmentFile.getFileName() + ".tmp");
+
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    new GZIPOutputStream(Files.newOutputStream(tempFile))))) {
+                out.writeInt(SEGMENT_MAGIC);
+                out.writeInt(SEGMENT_VERSION);
+                out.writeInt(snapshot.size());
+                for (IndexedDoc doc : snapshot) {
+                    out.writeUTF(doc.roomId());
+                    out.writeLong(doc.updatedSeconds());
+                    out.writeInt(doc.updatedNanos());
+                    out.writeInt(doc.termFrequencies().size());
+                    for (Map.Entry<String, Integer> entry : doc.termFrequencies().entrySet()) {
+                        out.writeUTF(entry.getKey());
+                        out.writeInt(entry.getValue());
+                    }
+                }
+            }
+
+            Files.move(tempFile, segmentFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.debug("Flushed {} room term vectors to {}", snapshot.size(), segmentFile);
+        } catch (IOException e) {
+            markDirty();
+            log.warn("Failed to write room text segment {}", segmentFile, e);
+        }
+    }
+
+    // ========================================
+    // PRIVATE HELPER METHODS
+    // ========================================
+
+    private IndexedDoc analyze(Room room, long updatedSeconds, int updatedNanos) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        int length = 0;
+
+        for (String token : TextAnalyzer.tokenize(room.getTitle())) {
+            termFrequencies.merge(token, TITLE_WEIGHT, Integer::sum);
+            length += TITLE_WEIGHT;
+        }
+        for (String text : new String[]{room.getDescription(), room.getAddress()}) {
+            for (String token : TextAnalyzer.tokenize(text)) {
+                termFrequencies.merge(token, 1, Integer::sum);
+                length++;
+            }
+        }
+
+        return new IndexedDoc(room.getId(), updatedSeconds, updatedNanos, termFrequencies, length);
+    }
+
+    // Caller holds the write lock
+    private void clear(int ordinal) {
+        IndexedDoc previous = docs.remove(ordinal);
+        if (previous == null) {
+            return;
+        }
+
+        totalLength -= previous.length();
+        previous.termFrequencies().keySet().forEach(term -> {
+            Map<Integer, Integer> termPostings = postings.get(term);
+            if (termPostings != null) {
+                termPostings.remove(ordinal);
+                if (termPostings.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        });
+    }
+
+    private void markDirty() {
+        lock.writeLock().lock();
+        try {
+            dirty = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package org.example.Broomate.index;
+
+import org.example.Broomate.model.Tenant;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Random-hyperplane LSH over tenant feature vectors for "tenants similar to me".
+ * Each of the hash tables buckets tenants by a short sign signature; a query unions the
+ * matching buckets (plus one-bit-flip neighbours when too few hits) and ranks only those
+ * candidates by exact cosine similarity.
+ */
+@Component
+public class SimilarTenantIndex implements TenantIndexListener {
+
+    private static final int TABLES = 8;
+    private static final int BITS_PER_TABLE = 10;
+    private static final long HYPERPLANE_SEED = 20250101L;
+
+    private final float[][][] hyperplanes = new float[TABLES][BITS_PER_TABLE][TenantFeatureVector.DIMENSIONS];
+    private final List<Map<Integer, BitSet>> tables = new ArrayList<>(TABLES);
+    private final Map<Integer, float[]> vectors = new HashMap<>();
+    private final Map<Integer, int[]> signatures = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public SimilarTenantIndex() {
+        Random random = new Random(HYPERPLANE_SEED);
+        for (int t = 0; t < TABLES; t++) {
+            for (int b = 0; b < BITS_PER_TABLE; b++) {
+                for (int d = 0; d < TenantFeatureVector.DIMENSIONS; d++) {
+                    hyperplanes[t][b][d] = (float) random.nextGaussian();
+                }
+            }
+            tables.add(new HashMap<>());
+        }
+    }
+
+    @Override
+    public void onUpsert(int ordinal, Tenant tenant) {
+        float[] vector = TenantFeatureVector.encode(tenant);
+        int[] signature = new int[TABLES];
+        for (int t = 0; t < TABLES; t++) {
+            signature[t] = signature(t, vector);
+        }
+
+        lock.writeLock().lock();
+        try {
+            clear(ordinal);
+            vectors.put(ordinal, vector);
+            signatures.put(ordinal, signature);
+            for (int t = 0; t < TABLES; t++) {
+                tables.get(t).computeIfAbsent(signature[t], key -> new BitSet()).set(ordinal);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onRemove(int ordinal) {
+        lock.writeLock().lock();
+        try {
+            clear(ordinal);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ordinals of the most similar indexed tenants, best first, excluding the tenant itself
+     */
+    public List<Integer> findSimilar(int ordinal, int limit) {
+        lock.readLock().lock();
+        try {
+            float[] vector = vectors.get(ordinal);
+            int[] signature = signatures.get(ordinal);
+            if (vector == null) {
+                return List.of();
+            }
+
+            BitSet candidates = new BitSet();
+            for (int t = 0; t < TABLES; t++) {
+                orBucket(candidates, t, signature[t]);
+            }
+            candidates.clear(ordinal);
+
+            // Multi-probe: also look at buckets one bit away when the exact buckets are sparse
+            if (candidates.cardinality() < limit) {
+                for (int t = 0; t < TABLES; t++) {
+                    for (int b = 0; b < BITS_PER_TABLE; b++) {
+                        orBucket(candidates, t, signature[t] ^ (1 << b));
+                    }
+                }
+                candidates.clear(ordinal);
+            }
+
+            return rank(vector, candidates, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ========================================
+    // PRIVATE HELPER METHODS
+    // ========================================
+
+    private int signature(int table, float[] vector) {
+        int signature = 0;
+        for (int b = 0; b < BITS_PER_TABLE; b++) {
+            float[] plane = hyperplanes[table][b];
+            double dot = 0;
+            for (int d = 0; d < vector.length; d++) {
+                dot += plane[d] * vector[d];
+            }
+            if (dot >= 0) {
+                signature |= 1 << b;
+            }
+        }
+        return signature;
+    }
+
+    private void orBucket(BitSet candidates, int table, int signature) {
+        BitSet bucket = tables.get(table).get(signature);
+        if (bucket != null) {
+            candidates.or(bucket);
+        }
+    }
+
+    private List<Integer> rank(float[] vector, BitSet candidates, int limit) {
+        // Min-heap of the best `limit` candidates by cosine similarity
+        PriorityQueue<double[]> best = new PriorityQueue<>(Comparator.comparingDouble(entry -> entry[0]));
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            best.add(new double[]{TenantFeatureVector.cosine(vector, vectors.get(i)), i});
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+
+        List<Integer> result = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            result.add((int) best.poll()[1]);
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    // Caller holds the write lock
+    private void clear(int ordinal) {
+        int[] previous = signatures.remove(ordinal);
+        vectors.remove(ordinal);
+        if (previous == null) {
+            return;
+        }
+
+        for (int t = 0; t < TABLES; t++) {
+            BitSet bucket = tables.get(t).get(previous[t]);
+            if (bucket != null) {
+                bucket.clear(ordinal);
+                if (bucket.isEmpty()) {
+                    tables.get(t).remove(previous[t]);
+                }
+            }
+        }
+    }
+}
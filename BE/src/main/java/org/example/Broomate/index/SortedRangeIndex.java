@@ -0,0 +1,78 @@
+package org.example.Broomate.index;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Sorted (value, ordinal) pairs in parallel primitive arrays.
+ * Range probes are a binary search plus a scan of the k hits; updates shift the tail with
+ * System.arraycopy. Not thread-safe, callers synchronize.
+ */
+class SortedRangeIndex {
+
+    private double[] values = new double[64];
+    private int[] ordinals = new int[64];
+    private int size;
+    private final Map<Integer, Double> valueByOrdinal = new HashMap<>();
+
+    void put(int ordinal, double value) {
+        remove(ordinal);
+
+        int position = lowerBound(value, ordinal);
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+            ordinals = Arrays.copyOf(ordinals, size * 2);
+        }
+        System.arraycopy(values, position, values, position + 1, size - position);
+        System.arraycopy(ordinals, position, ordinals, position + 1, size - position);
+        values[position] = value;
+        ordinals[position] = ordinal;
+        size++;
+        valueByOrdinal.put(ordinal, value);
+    }
+
+    void remove(int ordinal) {
+        Double value = valueByOrdinal.remove(ordinal);
+        if (value == null) {
+            return;
+        }
+
+        int position = lowerBound(value, ordinal);
+        System.arraycopy(values, position + 1, values, position, size - position - 1);
+        System.arraycopy(ordinals, position + 1, ordinals, position, size - position - 1);
+        size--;
+    }
+
+    /**
+     * Ordinals whose value lies in [min, max]
+     */
+    BitSet range(double min, double max) {
+        BitSet result = new BitSet();
+        for (int i = lowerBound(min, Integer.MIN_VALUE); i < size && values[i] <= max; i++) {
+            result.set(ordinals[i]);
+        }
+        return result;
+    }
+
+    int size() {
+        return size;
+    }
+
+    // First position whose (value, ordinal) is >= the given pair
+    private int lowerBound(double value, int ordinal) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int cmp = Double.compare(values[mid], value);
+            if (cmp < 0 || (cmp == 0 && ordinals[mid] < ordinal)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,206 @@
+package org.example.Broomate.index;
+
+import com.google.cloud.Timestamp;
+import lombok.extern.slf4j.Slf4j;
+import org.example.Broomate.event.TenantProfileChangedEvent;
+import org.example.Broomate.model.Account;
+import org.example.Broomate.model.Tenant;
+import org.example.Broomate.repository.TenantRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory directory of tenant profiles used by the deck engine.
+ * Every tenant gets a stable int ordinal so secondary indexes can use bitmaps and
+ * primitive arrays instead of string sets. Loaded once at startup and kept current
+ * from TenantProfileChangedEvent (this instance only).
+ */
+@Slf4j
+@Component
+public class TenantDirectory {
+
+    private final TenantRepository tenantRepository;
+    private final List<TenantIndexListener> listeners;
+
+    private final Map<String, Integer> ordinals = new ConcurrentHashMap<>();
+    private final List<Tenant> tenants = new ArrayList<>();     // ordinal -> latest snapshot
+    private final BitSet active = new BitSet();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready;
+
+    public TenantDirectory(TenantRepository tenantRepository, List<TenantIndexListener> listeners) {
+        this.tenantRepository = tenantRepository;
+        this.listeners = listeners;
+    }
+
+    // ========================================
+    // LOADING & UPDATES
+    // ========================================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            List<Tenant> activeTenants = tenantRepository.findAllActiveTenants();
+            activeTenants.forEach(this::upsert);
+            ready = true;
+            log.info("Tenant directory loaded with {} active tenants", activeTenants.size());
+        } catch (RuntimeException e) {
+            // Deck falls back to Firestore scans until the next restart
+            log.error("Failed to load tenant directory", e);
+        }
+    }
+
+    @EventListener
+    public void onTenantProfileChanged(TenantProfileChangedEvent event) {
+        Tenant tenant = event.getTenant();
+        if (tenant == null) {
+            tenant = tenantRepository.findById(event.getTenantId()).orElse(null);
+        }
+
+        if (tenant == null) {
+            remove(event.getTenantId());
+        } else {
+            upsert(tenant);
+        }
+    }
+
+    /**
+     * Insert or replace a tenant; stale snapshots (older updatedAt) are ignored
+     */
+    public void upsert(Tenant tenant) {
+        lock.writeLock().lock();
+        try {
+            int ordinal = ordinalFor(tenant.getId());
+            Tenant current = tenants.get(ordinal);
+            if (current != null && isOlder(tenant.getUpdatedAt(), current.getUpdatedAt())) {
+                return;
+            }
+
+            tenants.set(ordinal, tenant);
+            if (tenant.isActive() && tenant.getRole() == Account.AccountRoleEnum.TENANT) {
+                active.set(ordinal);
+                listeners.forEach(listener -> listener.onUpsert(ordinal, tenant));
+            } else if (active.get(ordinal)) {
+                active.clear(ordinal);
+                listeners.forEach(listener -> listener.onRemove(ordinal));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String tenantId) {
+        Integer ordinal = ordinals.get(tenantId);
+        if (ordinal == null) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (active.get(ordinal)) {
+                active.clear(ordinal);
+                listeners.forEach(listener -> listener.onRemove(ordinal));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ========================================
+    // LOOKUPS
+    // ========================================
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Ordinal of a tenant, or -1 when the tenant has never been seen
+     */
+    public int ordinalOf(String tenantId) {
+        Integer ordinal = ordinals.get(tenantId);
+        return ordinal != null ? ordinal : -1;
+    }
+
+    public Optional<Tenant> findById(String tenantId) {
+        Integer ordinal = ordinals.get(tenantId);
+        if (ordinal == null) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(tenants.get(ordinal));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Active tenant at an ordinal, or null when that tenant is inactive
+     */
+    public Tenant tenantAt(int ordinal) {
+        lock.readLock().lock();
+        try {
+            return active.get(ordinal) ? tenants.get(ordinal) : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Copy of the active tenant bitmap
+     */
+    public BitSet activeOrdinals() {
+        lock.readLock().lock();
+        try {
+            return (BitSet) active.clone();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Resolve ordinals to profiles, in ordinal order, skipping tenants that went inactive
+     */
+    public List<Tenant> tenantsAt(BitSet ordinalSet) {
+        lock.readLock().lock();
+        try {
+            List<Tenant> result = new ArrayList<>(ordinalSet.cardinality());
+            for (int i = ordinalSet.nextSetBit(0); i >= 0; i = ordinalSet.nextSetBit(i + 1)) {
+                if (active.get(i)) {
+                    result.add(tenants.get(i));
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ========================================
+    // PRIVATE HELPER METHODS
+    // ========================================
+
+    // Caller holds the write lock
+    private int ordinalFor(String tenantId) {
+        Integer ordinal = ordinals.get(tenantId);
+        if (ordinal != null) {
+            return ordinal;
+        }
+
+        tenants.add(null);
+        ordinal = tenants.size() - 1;
+        ordinals.put(tenantId, ordinal);
+        return ordinal;
+    }
+
+    private boolean isOlder(Timestamp incoming, Timestamp current) {
+        return incoming != null && current != null && incoming.compareTo(current) < 0;
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.Broomate.index;
+
+import org.example.Broomate.model.Tenant;
+import org.example.Broomate.util.DateUtil;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Encodes a tenant profile as a fixed-length vector roughly centred on zero, so that
+ * cosine similarity (and random-hyperplane LSH) reflects how alike two profiles are.
+ * Missing attributes encode as 0 (neutral).
+ */
+final class TenantFeatureVector {
+
+    static final int DIMENSIONS = 20;
+
+    private static final int DISTRICT_BUCKETS = 8;
+    private static final int DISTRICT_OFFSET = DIMENSIONS - DISTRICT_BUCKETS;
+    private static final long REFERENCE_DAY = LocalDate.of(2025, 1, 1).toEpochDay();
+    private static final double REFERENCE_BUDGET = 5_000_000.0;
+
+    private TenantFeatureVector() {
+    }
+
+    static float[] encode(Tenant tenant) {
+        float[] v = new float[DIMENSIONS];
+
+        // Human criteria
+        if (tenant.getAge() != null) {
+            v[0] = clamp((tenant.getAge() - 28) / 10.0);
+        }
+        if (tenant.getGender() != null) {
+            for (Tenant.GenderEnum gender : Tenant.GenderEnum.values()) {
+                v[1 + gender.ordinal()] = tenant.getGender() == gender ? 1f : -0.5f;
+            }
+        }
+        if (tenant.getStayLengthMonths() != null) {
+            v[4] = clamp((tenant.getStayLengthMonths() - 6) / 6.0);
+        }
+        Long moveInDay = DateUtil.toEpochDay(tenant.getMoveInDate());
+        if (moveInDay != null) {
+            v[5] = clamp((moveInDay - REFERENCE_DAY) / 180.0);
+        }
+        v[6] = sign(tenant.isSmoking());
+        v[7] = sign(tenant.isCooking());
+
+        // Room criteria
+        if (tenant.getBudgetPerMonth() != null && tenant.getBudgetPerMonth() > 0) {
+            v[8] = clamp(Math.log(tenant.getBudgetPerMonth() / REFERENCE_BUDGET) / Math.log(2));
+        }
+        v[9] = sign(tenant.isNeedWindow());
+        v[10] = sign(tenant.isMightShareBedRoom());
+        v[11] = sign(tenant.isMightShareToilet());
+
+        // Preferred districts, feature-hashed into a few buckets
+        List<String> districts = tenant.getPreferredDistricts();
+        if (districts != null && !districts.isEmpty()) {
+            for (int i = DISTRICT_OFFSET; i < DIMENSIONS; i++) {
+                v[i] = -0.25f;
+            }
+            for (String district : districts) {
+                int bucket = Math.floorMod(DistrictIndex.normalize(district).hashCode(), DISTRICT_BUCKETS);
+                v[DISTRICT_OFFSET + bucket] = 1f;
+            }
+        }
+
+        return v;
+    }
+
+    static double cosine(float[] a, float[] b) {
+        double dot = 0;
+        double normA = 0;
+        double normB = 0;
+        for (int i = 0; i < DIMENSIONS; i++) {
+            dot += a[i] * b[i];
+            normA += a[i] * a[i];
+            normB += b[i] * b[i];
+        }
+        return normA == 0 || normB == 0 ? 0 : dot / Math.sqrt(normA * normB);
+    }
+
+    private static float clamp(double value) {
+        return (float) Math.max(-1.0, Math.min(1.0, value));
+    }
+
+    private static float sign(boolean flag) {
+        return flag ? 1f : -1f;
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.Broomate.index;
+
+import org.example.Broomate.model.Tenant;
+
+/**
+ * Secondary index over the tenant directory, keyed by tenant ordinal.
+ * Callbacks are invoked while the directory holds its write lock, one tenant at a time.
+ */
+public interface TenantIndexListener {
+
+    /**
+     * Tenant at this ordinal is active and has the given profile (insert or replace)
+     */
+    void onUpsert(int ordinal, Tenant tenant);
+
+    /**
+     * Tenant at this ordinal is no longer active
+     */
+    void onRemove(int ordinal);
+}
@@ -8,6 +8,7 @@ import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 
 import java.util.List;
+import java.util.Map;
 
 @Data
 @SuperBuilder
@@ -19,6 +20,7 @@ public class Conversation extends BaseModel {
     private List<String> participantIds;  // [tenant1Id, tenant2Id] or [tenant1Id, tenant2Id, landlordId]
     private String lastMessage;
     private Timestamp lastMessageAt;
+    private Map<String, Timestamp> readUpTo;  // userId -> read receipt watermark (messages up to this time are read)
 
     // Note: type and relatedRoomId are optional fields for future use
     // Not in original spec but useful for distinguishing conversation types
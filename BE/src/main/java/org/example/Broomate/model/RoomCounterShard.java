@@ -0,0 +1,25 @@
+package org.example.Broomate.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * One shard of a room's view/inquiry counters, stored in "roomCounters" as "{roomId}_{shard}".
+ * Counts are buffered in memory and added to a random shard on flush, so a hot room never
+ * exceeds the per-document write rate; a room's totals are the sum over its shards.
+ */
+@Data
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class RoomCounterShard extends BaseModel {
+
+    private String roomId;
+    private String landlordId;
+    private Long views;
+    private Long inquiries;
+}
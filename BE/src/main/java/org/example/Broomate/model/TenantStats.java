@@ -0,0 +1,33 @@
+package org.example.Broomate.model;
+
+import com.google.cloud.Timestamp;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * Per-tenant swipe/match counters, stored in "tenantStats" with the tenant ID as document ID.
+ * Counters are incremented in the same write batch as the swipe or match they count,
+ * so reading stats is a single document read instead of a scan over swipes and matches.
+ */
+@Data
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class TenantStats extends BaseModel {
+
+    private Long totalSwipes;
+    private Long rightSwipes;
+    private Long leftSwipes;
+    private Long totalMatches;
+    private Long activeMatches;
+
+    // Only set when backfilled; otherwise the stats document's create time is used
+    private Timestamp firstSwipeAt;
+
+    // True once counters have been seeded from existing swipes/matches
+    private boolean backfilled;
+}
@@ -4,6 +4,8 @@ import com.google.cloud.Timestamp;
 import com.google.cloud.firestore.DocumentSnapshot;
 import com.google.cloud.firestore.Firestore;
 import com.google.cloud.firestore.QueryDocumentSnapshot;
+import com.google.cloud.firestore.SetOptions;
+import com.google.cloud.firestore.WriteBatch;
 import com.google.firebase.cloud.FirestoreClient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,6 +17,7 @@ import org.springframework.stereotype.Repository;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 @RequiredArgsConstructor
@@ -26,6 +29,9 @@ public class AllAuthUserRepository {
     private static final String CONVERSATIONS_COLLECTION = "conversations";
     private static final String MESSAGES_COLLECTION = "messages";
     private static final String ROOMS_COLLECTION = "rooms";
+    private static final int MAX_BATCH_WRITES = 500;
+    private static final List<String> CONVERSATION_FIELDS = List.of(
+            "participantIds", "lastMessage", "lastMessageAt", "createdAt", "updatedAt");
     private final Firestore firestore;
 
 
@@ -86,9 +92,10 @@ public class AllAuthUserRepository {
         try {
             conversation.setUpdatedAt(Timestamp.now());
 
+            // Read watermarks are owned by ReadReceiptService and must not be overwritten here
             firestore.collection(CONVERSATIONS_COLLECTION)
                     .document(conversationId)
-                    .set(conversation)
+                    .set(conversation, SetOptions.mergeFields(CONVERSATION_FIELDS))
                     .get();
 
             return conversation;
@@ -98,6 +105,28 @@ public class AllAuthUserRepository {
         }
     }
 
+    /**
+     * Merge read watermarks (conversation ID -> user ID -> read-up-to time) into
+     * conversation documents, one write per conversation
+     */
+    public void updateReadWatermarks(Map<String, Map<String, Timestamp>> watermarks) {
+        try {
+            List<Map.Entry<String, Map<String, Timestamp>>> entries = new ArrayList<>(watermarks.entrySet());
+            for (int start = 0; start < entries.size(); start += MAX_BATCH_WRITES) {
+                WriteBatch batch = firestore.batch();
+                for (Map.Entry<String, Map<String, Timestamp>> entry
+                        : entries.subList(start, Math.min(start + MAX_BATCH_WRITES, entries.size()))) {
+                    batch.set(firestore.collection(CONVERSATIONS_COLLECTION).document(entry.getKey()),
+                            Map.of("readUpTo", entry.getValue()), SetOptions.merge());
+                }
+                batch.commit().get();
+            }
+        } catch (InterruptedException | ExecutionException e) {
+            log.error("Error updating read watermarks", e);
+            throw new RuntimeException("Failed to update read watermarks", e);
+        }
+    }
+
     // ========================================
     // MESSAGE OPERATIONS
     // ========================================
@@ -253,4 +282,21 @@ public class AllAuthUserRepository {
             throw new RuntimeException("Failed to find messages", e);
         }
     }
+
+    /**
+     * Number of messages in a conversation (aggregation query, no documents read)
+     */
+    public long countMessagesByConversationId(String conversationId) {
+        try {
+            return firestore.collection(MESSAGES_COLLECTION)
+                    .whereEqualTo("conversationId", conversationId)
+                    .count()
+                    .get()
+                    .get()
+                    .getCount();
+        } catch (InterruptedException | ExecutionException e) {
+            log.error("Error counting messages for conversation: {}", conversationId, e);
+            throw new RuntimeException("Failed to count messages", e);
+        }
+    }
 }
\ No newline at end of file
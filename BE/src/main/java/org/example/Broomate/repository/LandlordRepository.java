@@ -2,19 +2,30 @@ package org.example.Broomate.repository;
 
 import com.google.cloud.Timestamp;
 import com.google.cloud.firestore.DocumentSnapshot;
+import com.google.cloud.firestore.FieldPath;
+import com.google.cloud.firestore.FieldValue;
 import com.google.cloud.firestore.Firestore;
+import com.google.cloud.firestore.Query;
 import com.google.cloud.firestore.QueryDocumentSnapshot;
+import com.google.cloud.firestore.SetOptions;
+import com.google.cloud.firestore.WriteBatch;
 import com.google.firebase.cloud.FirestoreClient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.Broomate.model.Landlord;
 import org.example.Broomate.model.Room;
+import org.example.Broomate.model.RoomCounterShard;
+import org.example.Broomate.util.PageCursor;
 import org.springframework.stereotype.Repository;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
 
 @RequiredArgsConstructor
 @Slf4j
@@ -23,6 +34,14 @@ public class LandlordRepository {
 
     private static final String LANDLORDS_COLLECTION = "landlords";
     private static final String ROOMS_COLLECTION = "rooms";
+    private static final String ROOM_COUNTERS_COLLECTION = "roomCounters";
+    private static final int MAX_BATCH_WRITES = 500;
+    private static final int WHERE_IN_LIMIT = 30;
+
+    // Fields needed for the dashboard list; media URL lists and descriptions are not transferred
+    private static final String[] ROOM_SUMMARY_FIELDS = {
+            "id", "title", "thumbnailUrl", "rentPricePerMonth", "status", "createdAt", "updatedAt"
+    };
     private final Firestore firestore;
 
     // ========================================
@@ -158,4 +177,129 @@ public class LandlordRepository {
             throw new RuntimeException("Failed to find rooms for landlord", e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * One page of a landlord's rooms, newest first, with only the summary fields loaded
+     */
+    public List<Room> findRoomSummariesPage(String landlordUserId, PageCursor after, int limit) {
+        try {
+            Query query = firestore.collection(ROOMS_COLLECTION)
+                    .whereEqualTo("landlordId", landlordUserId)
+                    .select(ROOM_SUMMARY_FIELDS)
+                    .orderBy("createdAt", Query.Direction.DESCENDING)
+                    .orderBy(FieldPath.documentId(), Query.Direction.DESCENDING);
+
+            if (after != null) {
+                query = query.startAfter(after.getCreatedAt(), after.getId());
+            }
+
+            List<Room> rooms = new ArrayList<>();
+            for (QueryDocumentSnapshot document : query.limit(limit).get().get().getDocuments()) {
+                Room room = document.toObject(Room.class);
+                room.setId(document.getId());
+                rooms.add(room);
+            }
+            return rooms;
+        } catch (InterruptedException | ExecutionException e) {
+            log.error("Error finding room page for landlord: {}", landlordUserId, e);
+            throw new RuntimeException("Failed to find rooms for landlord", e);
+        }
+    }
+
+    /**
+     * Number of rooms owned by a landlord (aggregation query, no documents read)
+     */
+    public long countRoomsByLandlordUserId(String landlordUserId) {
+        try {
+            return firestore.collection(ROOMS_COLLECTION)
+                    .whereEqualTo("landlordId", landlordUserId)
+                    .count()
+                    .get()
+                    .get()
+                    .getCount();
+        } catch (InterruptedException | ExecutionException e) {
+            log.error("Error counting rooms for landlord: {}", landlordUserId, e);
+            throw new RuntimeException("Failed to count rooms for landlord", e);
+        }
+    }
+
+    // ========================================
+    // ROOM COUNTER OPERATIONS
+    // ========================================
+
+    /**
+     * Add counter deltas to their shard documents (views/inquiries are increments, not totals)
+     */
+    public void incrementRoomCounterShards(List<RoomCounterShard> deltas, int shardCount) {
+        try {
+            for (int start = 0; start < deltas.size(); start += MAX_BATCH_WRITES) {
+                WriteBatch batch = firestore.batch();
+                for (RoomCounterShard delta : deltas.subList(start, Math.min(start + MAX_BATCH_WRITES, deltas.size()))) {
+                    int shard = ThreadLocalRandom.current().nextInt(shardCount);
+
+                    Map<String, Object> counters = new HashMap<>();
+                    counters.put("roomId", delta.getRoomId());
+                    counters.put("landlordId", delta.getLandlordId());
+                    counters.put("views", FieldValue.increment(delta.getViews()));
+                    counters.put("inquiries", FieldValue.increment(delta.getInquiries()));
+                    counters.put("updatedAt", Timestamp.now());
+
+                    batch.set(firestore.collection(ROOM_COUNTERS_COLLECTION).document(delta.getRoomId() + "_" + shard),
+                            counters, SetOptions.merge());
+                }
+                batch.commit().get();
+            }
+        } catch (InterruptedException | ExecutionException e) {
+            log.error("Error incrementing room counters", e);
+            throw new RuntimeException("Failed to increment room counters", e);
+        }
+    }
+
+    /**
+     * All counter shards of a landlord's rooms
+     */
+    public List<RoomCounterShard> findRoomCounterShardsByLandlordId(String landlordId) {
+        try {
+            List<QueryDocumentSnapshot> documents = firestore.collection(ROOM_COUNTERS_COLLECTION)
+                    .whereEqualTo("landlordId", landlordId)
+                    .get()
+                    .get()
+                    .getDocuments();
+
+            List<RoomCounterShard> shards = new ArrayList<>();
+            for (QueryDocumentSnapshot document : documents) {
+                shards.add(document.toObject(RoomCounterShard.class));
+            }
+            return shards;
+        } catch (InterruptedException | ExecutionException e) {
+            log.error("Error finding room counters for landlord: {}", landlordId, e);
+            throw new RuntimeException("Failed to find room counters", e);
+        }
+    }
+
+    /**
+     * All counter shards of the given rooms
+     */
+    public List<RoomCounterShard> findRoomCounterShardsByRoomIds(Collection<String> roomIds) {
+        List<String> ids = new ArrayList<>(roomIds);
+        List<RoomCounterShard> shards = new ArrayList<>();
+
+        try {
+            for (int start = 0; start < ids.size(); start += WHERE_IN_LIMIT) {
+                List<QueryDocumentSnapshot> documents = firestore.collection(ROOM_COUNTERS_COLLECTION)
+                        .whereIn("roomId", ids.subList(start, Math.min(start + WHERE_IN_LIMIT, ids.size())))
+                        .get()
+                        .get()
+                        .getDocuments();
+
+                for (QueryDocumentSnapshot document : documents) {
+                    shards.add(document.toObject(RoomCounterShard.class));
+                }
+            }
+            return shards;
+        } catch (InterruptedException | ExecutionException e) {
+            log.error("Error finding room counters for {} rooms", ids.size(), e);
+            throw new RuntimeException("Failed to find room counters", e);
+        }
+    }
+}
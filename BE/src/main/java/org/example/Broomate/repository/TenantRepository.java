@@ -6,11 +6,11 @@ import com.google.firebase.cloud.FirestoreClient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.Broomate.model.*;
+import org.example.Broomate.util.PageCursor;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 
@@ -23,6 +23,8 @@ public class TenantRepository {
     private static final String SWIPES_COLLECTION = "swipes";
     private static final String MATCHES_COLLECTION = "matches";
     private static final String CONVERSATIONS_COLLECTION = "conversations";
+    private static final String TENANT_STATS_COLLECTION = "tenantStats";
+    private static final int WHERE_IN_LIMIT = 30;
     private final Firestore firestore;
 
     // ========================================
@@ -51,6 +53,29 @@ public class TenantRepository {
         }
     }
 
+    /**
+     * Find tenants by IDs with a single batched read; missing IDs are absent from the map
+     */
+    public Map<String, Tenant> findByIds(Collection<String> tenantIds) {
+        if (tenantIds.isEmpty()) {
+            return Map.of();
+        }
+
+        try {
+            DocumentReference[] refs = tenantIds.stream()
+                    .map(id -> firestore.collection(TENANTS_COLLECTION).document(id))
+                    .toArray(DocumentReference[]::new);
+
+            return firestore.getAll(refs).get().stream()
+                    .filter(DocumentSnapshot::exists)
+                    .map(doc -> doc.toObject(Tenant.class))
+                    .collect(Collectors.toMap(Tenant::getId, tenant -> tenant));
+        } catch (InterruptedException | ExecutionException e) {
+            log.error("Error finding tenants by IDs", e);
+            throw new RuntimeException("Failed to find tenants", e);
+        }
+    }
+
     /**
      * Find all active tenants with role TENANT
      */
@@ -113,6 +138,79 @@ public class TenantRepository {
         }
     }
 
+    /**
+     * Find all swipes (used to rebuild in-memory swipe indexes at startup)
+     */
+    public List<Swipe> findAllSwipes() {
+        try {
+            return firestore.collection(SWIPES_COLLECTION)
+                    .get()
+                    .get()
+                    .getDocuments()
+                    .stream()
+                    .map(doc -> doc.toObject(Swipe.class))
+                    .collect(Collectors.toList());
+        } catch (InterruptedException | ExecutionException e) {
+            log.error("Error finding all swipes", e);
+            throw new RuntimeException("Failed to find swipes", e);
+        }
+    }
+
+    /**
+     * Find right swipes received by a tenant
+     */
+    public List<Swipe> findAcceptedSwipesByTargetId(String targetId) {
+        try {
+            return firestore.collection(SWIPES_COLLECTION)
+                    .whereEqualTo("targetId", targetId)
+                    .whereEqualTo("action", Swipe.SwipeActionEnum.ACCEPT.name())
+                    .get()
+                    .get()
+                    .getDocuments()
+                    .stream()
+                    .map(doc -> doc.toObject(Swipe.class))
+                    .collect(Collectors.toList());
+        } catch (InterruptedException | ExecutionException e) {
+            log.error("Error finding swipes by target ID: {}", targetId, e);
+            throw new RuntimeException("Failed to find swipes", e);
+        }
+    }
+
+    /**
+     * Find one page of a tenant's swipes, newest first, optionally filtered by action.
+     * Keyset pagination on (createdAt, document ID) so each page reads at most `limit` documents.
+     * Requires composite indexes on swipes (swiperId, createdAt desc) and (swiperId, action, createdAt desc).
+     */
+    public List<Swipe> findSwipesPage(String swiperId, Swipe.SwipeActionEnum action, PageCursor after, int limit) {
+        try {
+            Query query = firestore.collection(SWIPES_COLLECTION)
+                    .whereEqualTo("swiperId", swiperId);
+
+            if (action != null) {
+                query = query.whereEqualTo("action", action.name());
+            }
+
+            query = query
+                    .orderBy("createdAt", Query.Direction.DESCENDING)
+                    .orderBy(FieldPath.documentId(), Query.Direction.DESCENDING);
+
+            if (after != null) {
+                query = query.startAfter(after.getCreatedAt(), after.getId());
+            }
+
+            return query.limit(limit)
+                    .get()
+                    .get()
+                    .getDocuments()
+                    .stream()
+                    .map(doc -> doc.toObject(Swipe.class))
+                    .collect(Collectors.toList());
+        } catch (InterruptedException | ExecutionException e) {
+            log.error("Error finding swipe page for swiper ID: {}", swiperId, e);
+            throw new RuntimeException("Failed to find swipes", e);
+        }
+    }
+
     /**
      * Find swipe by swiper and target
      */
@@ -136,14 +234,28 @@ public class TenantRepository {
     }
 
     /**
-     * Save swipe
+     * Find swipes from one swiper to any of the given targets (one query per 30 targets)
+     */
+    public List<Swipe> findSwipesBySwiperAndTargets(String swiperId, Collection<String> targetIds) {
+        return findSwipesIn("swiperId", swiperId, "targetId", targetIds);
+    }
+
+    /**
+     * Find swipes from any of the given swipers to one target (one query per 30 swipers)
+     */
+    public List<Swipe> findSwipesBySwipersAndTarget(Collection<String> swiperIds, String targetId) {
+        return findSwipesIn("targetId", targetId, "swiperId", swiperIds);
+    }
+
+    /**
+     * Save swipe and increment the swiper's counters in the same commit
      */
     public Swipe saveSwipe(Swipe swipe) {
         try {
-            firestore.collection(SWIPES_COLLECTION)
-                    .document(swipe.getId())
-                    .set(swipe)
-                    .get();
+            WriteBatch batch = firestore.batch();
+            batch.set(firestore.collection(SWIPES_COLLECTION).document(swipe.getId()), swipe);
+            addSwipeCounters(batch, swipe);
+            batch.commit().get();
 
             return swipe;
         } catch (InterruptedException | ExecutionException e) {
@@ -152,6 +264,62 @@ public class TenantRepository {
         }
     }
 
+    /**
+     * Save a batch of swipes from one swiper together with the matches and conversations they
+     * created, and all affected counters, in a single commit
+     */
+    public void saveSwipeBatch(String swiperId, List<Swipe> swipes, List<Match> matches, List<Conversation> conversations) {
+        try {
+            WriteBatch batch = firestore.batch();
+
+            for (Swipe swipe : swipes) {
+                batch.set(firestore.collection(SWIPES_COLLECTION).document(swipe.getId()), swipe);
+            }
+            long rightSwipes = swipes.stream()
+                    .filter(swipe -> Swipe.SwipeActionEnum.ACCEPT.equals(swipe.getAction()))
+                    .count();
+            addSwipeCounters(batch, swiperId, swipes.size(), rightSwipes);
+
+            for (Conversation conversation : conversations) {
+                batch.set(firestore.collection(CONVERSATIONS_COLLECTION).document(conversation.getId()), conversation);
+            }
+            for (Match match : matches) {
+                batch.set(firestore.collection(MATCHES_COLLECTION).document(match.getId()), match);
+                addMatchCounters(batch, match.getTenant2Id(), 1);
+            }
+            if (!matches.isEmpty()) {
+                addMatchCounters(batch, swiperId, matches.size());
+            }
+
+            batch.commit().get();
+        } catch (InterruptedException | ExecutionException e) {
+            log.error("Error saving swipe batch for swiper: {}", swiperId, e);
+            throw new RuntimeException("Failed to save swipes", e);
+        }
+    }
+
+    private List<Swipe> findSwipesIn(String fixedField, String fixedValue, String inField, Collection<String> values) {
+        List<String> distinctValues = values.stream().distinct().toList();
+        List<Swipe> result = new ArrayList<>();
+
+        try {
+            for (int from = 0; from < distinctValues.size(); from += WHERE_IN_LIMIT) {
+                List<String> chunk = distinctValues.subList(from, Math.min(from + WHERE_IN_LIMIT, distinctValues.size()));
+                firestore.collection(SWIPES_COLLECTION)
+                        .whereEqualTo(fixedField, fixedValue)
+                        .whereIn(inField, chunk)
+                        .get()
+                        .get()
+                        .getDocuments()
+                        .forEach(doc -> result.add(doc.toObject(Swipe.class)));
+            }
+            return result;
+        } catch (InterruptedException | ExecutionException e) {
+            log.error("Error finding swipes where {} = {}", fixedField, fixedValue, e);
+            throw new RuntimeException("Failed to find swipes", e);
+        }
+    }
+
     // ========================================
     // MATCH CRUD OPERATIONS
     // ========================================
@@ -190,6 +358,25 @@ public class TenantRepository {
         }
     }
 
+    /**
+     * Find all active matches (used to build the in-memory match index)
+     */
+    public List<Match> findAllActiveMatches() {
+        try {
+            return firestore.collection(MATCHES_COLLECTION)
+                    .whereEqualTo("status", "ACTIVE")
+                    .get()
+                    .get()
+                    .getDocuments()
+                    .stream()
+                    .map(doc -> doc.toObject(Match.class))
+                    .collect(Collectors.toList());
+        } catch (InterruptedException | ExecutionException e) {
+            log.error("Error finding all active matches", e);
+            throw new RuntimeException("Failed to find matches", e);
+        }
+    }
+
     /**
      * Save match
      */
@@ -207,6 +394,158 @@ public class TenantRepository {
         }
     }
 
+    /**
+     * Save a new match together with its conversation, and increment both tenants'
+     * match counters, in a single commit
+     */
+    public Match saveMatchWithConversation(Match match, Conversation conversation) {
+        try {
+            WriteBatch batch = firestore.batch();
+            batch.set(firestore.collection(CONVERSATIONS_COLLECTION).document(conversation.getId()), conversation);
+            batch.set(firestore.collection(MATCHES_COLLECTION).document(match.getId()), match);
+            addMatchCounters(batch, match.getTenant1Id(), 1);
+            addMatchCounters(batch, match.getTenant2Id(), 1);
+            batch.commit().get();
+
+            return match;
+        } catch (InterruptedException | ExecutionException e) {
+            log.error("Error saving match and conversation", e);
+            throw new RuntimeException("Failed to save match", e);
+        }
+    }
+
+    // ========================================
+    // TENANT STATS OPERATIONS
+    // ========================================
+
+    /**
+     * Find stats counters for a tenant (single document read)
+     */
+    public Optional<TenantStats> findStats(String tenantId) {
+        try {
+            DocumentSnapshot document = statsRef(tenantId).get().get();
+
+            if (!document.exists()) {
+                return Optional.empty();
+            }
+
+            return Optional.ofNullable(toStats(document));
+        } catch (InterruptedException | ExecutionException e) {
+            log.error("Error finding stats for tenant: {}", tenantId, e);
+            throw new RuntimeException("Failed to find tenant stats", e);
+        }
+    }
+
+    /**
+     * Seed a tenant's counters from existing swipes and matches (count aggregations, no full reads).
+     * Runs in a transaction that holds the stats document, so swipes committed concurrently
+     * are either already counted or applied as increments on top afterwards.
+     * Note: the first-swipe lookup needs a composite index on swipes (swiperId, createdAt).
+     */
+    public TenantStats backfillStats(String tenantId) {
+        try {
+            DocumentReference statsRef = statsRef(tenantId);
+
+            return firestore.runTransaction(transaction -> {
+                DocumentSnapshot current = transaction.get(statsRef).get();
+                if (current.exists() && Boolean.TRUE.equals(current.getBoolean("backfilled"))) {
+                    return toStats(current);
+                }
+
+                Query swipes = firestore.collection(SWIPES_COLLECTION).whereEqualTo("swiperId", tenantId);
+                CollectionReference matches = firestore.collection(MATCHES_COLLECTION);
+
+                long totalSwipes = count(swipes);
+                long rightSwipes = count(swipes.whereEqualTo("action", Swipe.SwipeActionEnum.ACCEPT.name()));
+                long totalMatches = count(matches.whereEqualTo("tenant1Id", tenantId))
+                        + count(matches.whereEqualTo("tenant2Id", tenantId));
+                long activeMatches = count(matches.whereEqualTo("tenant1Id", tenantId).whereEqualTo("status", "ACTIVE"))
+                        + count(matches.whereEqualTo("tenant2Id", tenantId).whereEqualTo("status", "ACTIVE"));
+
+                TenantStats stats = TenantStats.builder()
+                        .id(tenantId)
+                        .totalSwipes(totalSwipes)
+                        .rightSwipes(rightSwipes)
+                        .leftSwipes(totalSwipes - rightSwipes)
+                        .totalMatches(totalMatches)
+                        .activeMatches(activeMatches)
+                        .firstSwipeAt(totalSwipes > 0 ? findFirstSwipeAt(tenantId) : null)
+                        .backfilled(true)
+                        .createdAt(Timestamp.now())
+                        .updatedAt(Timestamp.now())
+                        .build();
+
+                transaction.set(statsRef, stats);
+                log.info("Backfilled stats for tenant {}: {} swipes, {} matches", tenantId, totalSwipes, totalMatches);
+                return stats;
+            }).get();
+        } catch (InterruptedException | ExecutionException e) {
+            log.error("Error backfilling stats for tenant: {}", tenantId, e);
+            throw new RuntimeException("Failed to backfill tenant stats", e);
+        }
+    }
+
+    private void addSwipeCounters(WriteBatch batch, Swipe swipe) {
+        long rightSwipes = Swipe.SwipeActionEnum.ACCEPT.equals(swipe.getAction()) ? 1 : 0;
+        addSwipeCounters(batch, swipe.getSwiperId(), 1, rightSwipes);
+    }
+
+    private void addSwipeCounters(WriteBatch batch, String swiperId, long totalSwipes, long rightSwipes) {
+        Map<String, Object> counters = new HashMap<>();
+        counters.put("totalSwipes", FieldValue.increment(totalSwipes));
+        if (rightSwipes > 0) {
+            counters.put("rightSwipes", FieldValue.increment(rightSwipes));
+        }
+        if (totalSwipes > rightSwipes) {
+            counters.put("leftSwipes", FieldValue.increment(totalSwipes - rightSwipes));
+        }
+        counters.put("updatedAt", Timestamp.now());
+
+        batch.set(statsRef(swiperId), counters, SetOptions.merge());
+    }
+
+    private void addMatchCounters(WriteBatch batch, String tenantId, long matches) {
+        Map<String, Object> counters = new HashMap<>();
+        counters.put("totalMatches", FieldValue.increment(matches));
+        counters.put("activeMatches", FieldValue.increment(matches));
+        counters.put("updatedAt", Timestamp.now());
+
+        batch.set(statsRef(tenantId), counters, SetOptions.merge());
+    }
+
+    private DocumentReference statsRef(String tenantId) {
+        return firestore.collection(TENANT_STATS_COLLECTION).document(tenantId);
+    }
+
+    private TenantStats toStats(DocumentSnapshot document) {
+        TenantStats stats = document.toObject(TenantStats.class);
+        if (stats != null && stats.getFirstSwipeAt() == null) {
+            stats.setFirstSwipeAt(document.getCreateTime());
+        }
+        return stats;
+    }
+
+    private long count(Query query) throws InterruptedException, ExecutionException {
+        return query.count().get().get().getCount();
+    }
+
+    private Timestamp findFirstSwipeAt(String tenantId) {
+        try {
+            QuerySnapshot first = firestore.collection(SWIPES_COLLECTION)
+                    .whereEqualTo("swiperId", tenantId)
+                    .orderBy("createdAt", Query.Direction.ASCENDING)
+                    .limit(1)
+                    .get()
+                    .get();
+
+            return first.isEmpty() ? null : first.getDocuments().get(0).getTimestamp("createdAt");
+        } catch (InterruptedException | ExecutionException e) {
+            // Missing composite index should not break stats; fall back to the stats document's create time
+            log.warn("Could not find first swipe for tenant {}: {}", tenantId, e.getMessage());
+            return null;
+        }
+    }
+
     // ========================================
     // CONVERSATION CRUD OPERATIONS
     // ========================================
@@ -317,6 +656,24 @@ public class TenantRepository {
             throw new RuntimeException("Failed to retrieve room", e);
         }
     }
+    /**
+     * Find all bookmarks (used to build the in-memory bookmark index)
+     */
+    public List<Bookmark> findAllBookmarks() {
+        try {
+            return firestore.collection("bookmarks")
+                    .get()
+                    .get()
+                    .getDocuments()
+                    .stream()
+                    .map(doc -> doc.toObject(Bookmark.class))
+                    .collect(Collectors.toList());
+        } catch (InterruptedException | ExecutionException e) {
+            log.error("Error finding all bookmarks", e);
+            throw new RuntimeException("Failed to retrieve bookmarks", e);
+        }
+    }
+
     /**
      * Find all bookmarks for a specific room
      */
@@ -347,8 +704,9 @@ public class TenantRepository {
                     .sorted()
                     .collect(Collectors.toList());
 
-            // Query all conversations
+            // Only the first participant's conversations can match
             QuerySnapshot querySnapshot = firestore.collection(CONVERSATIONS_COLLECTION)
+                    .whereArrayContains("participantIds", sortedIds.get(0))
                     .get()
                     .get();
 
@@ -6,13 +6,15 @@ import org.example.Broomate.dto.request.allAuthUser.ChangePasswordRequest;
 import org.example.Broomate.dto.request.allAuthUser.SendMessageRequest;
 import org.example.Broomate.dto.response.*;
 import org.example.Broomate.dto.response.allAuthUser.*;
-import org.example.Broomate.dto.websocket.NewMessageNotification;
+import org.example.Broomate.event.MessageSentEvent;
+import org.example.Broomate.event.TenantProfileChangedEvent;
 import org.example.Broomate.model.Account;
 import org.example.Broomate.model.Conversation;
 import org.example.Broomate.model.Message;
 import org.example.Broomate.model.Room;
 import org.example.Broomate.repository.AllAuthUserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -23,6 +25,7 @@ import org.springframework.web.server.ResponseStatusException;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -39,7 +42,11 @@ public class AllAuthUserService {
         @Autowired
         private FileStorageService fileStorageService;
         @Autowired
-        private WebSocketService webSocketService;
+        private ApplicationEventPublisher eventPublisher;
+        @Autowired
+        private RoomCache roomCache;
+        @Autowired
+        private ReadReceiptService readReceiptService;
 
         // ========================================
         // 1. GET ALL CONVERSATIONS (UPDATED)
@@ -173,7 +180,7 @@ public class AllAuthUserService {
         public RoomDetailResponse getRoomDetail(String roomId) {
                 log.info("Getting room detail for ID: {}", roomId);
 
-                Room room = repository.findRoomById(roomId)
+                Room room = roomCache.findById(roomId)
                                 .orElseThrow(() -> new ResponseStatusException(
                                                 HttpStatus.NOT_FOUND,
                                                 "Room not found with ID: " + roomId));
@@ -261,34 +268,20 @@ public class AllAuthUserService {
                         repository.saveMessage(message);
 
                         conversation.setLastMessage(request.getContent());
-                        conversation.setLastMessageAt(Timestamp.now());
+                        conversation.setLastMessageAt(message.getCreatedAt());
                         conversation.setUpdatedAt(Timestamp.now());
                         repository.updateConversation(conversationId, conversation);
 
-                        log.info("Message sent successfully in conversation: {}", conversationId);
-                        // ✅ NEW: Send WebSocket notification to the other participant
-                        String otherUserId = conversation.getParticipantIds().stream()
-                                        .filter(id -> !id.equals(userId))
-                                        .findFirst()
-                                        .orElse(null);
-
-                        if (otherUserId != null) {
-                                // Get sender info
-                                Account sender = repository.findAccountById(userId).orElse(null);
-
-                                NewMessageNotification notification = NewMessageNotification.builder()
-                                                .messageId(message.getId())
-                                                .conversationId(conversationId)
-                                                .senderId(userId)
-                                                .senderName(sender != null ? sender.getName() : "Unknown User")
-                                                .senderAvatar(sender != null ? sender.getAvatarUrl() : null)
-                                                .content(request.getContent())
-                                                .mediaUrls(mediaUrls)
-                                                .timestamp(message.getCreatedAt().toString())
-                                                .build();
-
-                                webSocketService.sendNewMessageNotification(otherUserId, notification);
-                        }
+                        // WebSocket notification is sent asynchronously by NotificationEventListener
+                        eventPublisher.publishEvent(MessageSentEvent.builder()
+                                        .messageId(message.getId())
+                                        .conversationId(conversationId)
+                                        .senderId(userId)
+                                        .content(request.getContent())
+                                        .mediaUrls(mediaUrls)
+                                        .participantIds(conversation.getParticipantIds())
+                                        .createdAt(message.getCreatedAt())
+                                        .build());
 
                         log.info("Message sent successfully in conversation: {}", conversationId);
 
@@ -325,6 +318,17 @@ public class AllAuthUserService {
                 }
         }
 
+        /**
+         * Tell the tenant directory to reload a tenant whose active flag changed
+         */
+        private void publishTenantChanged(Account account) {
+                if (account.getRole() == Account.AccountRoleEnum.TENANT) {
+                        eventPublisher.publishEvent(TenantProfileChangedEvent.builder()
+                                        .tenantId(account.getId())
+                                        .build());
+                }
+        }
+
         // ========================================
         // 6. DEACTIVATE PROFILE
         // ========================================
@@ -340,6 +344,7 @@ public class AllAuthUserService {
                 account.setUpdatedAt(Timestamp.now());
 
                 repository.updateAccount(userId, account);
+                publishTenantChanged(account);
 
                 log.info("Profile deactivated for user: {}", userId);
 
@@ -363,6 +368,7 @@ public class AllAuthUserService {
                 account.setUpdatedAt(Timestamp.now());
 
                 repository.updateAccount(userId, account);
+                publishTenantChanged(account);
 
                 log.info("Profile activated for user: {}", userId);
 
@@ -392,6 +398,16 @@ public class AllAuthUserService {
                 // Get all messages in conversation
                 List<Message> messages = repository.findMessagesByConversationId(conversationId);
 
+                // Read receipts are stored as per-participant watermarks
+                Map<String, Timestamp> watermarks = readReceiptService.getWatermarks(conversation);
+                int unreadCount = 0;
+                for (Message message : messages) {
+                        message.setReadBy(ReadReceiptService.readersOf(message, watermarks));
+                        if (!userId.equals(message.getSenderId()) && !message.getReadBy().contains(userId)) {
+                                unreadCount++;
+                        }
+                }
+
                 // ✅ Enrich each message with sender info
                 List<MessageDetailResponse> messageResponses = messages.stream()
                                 .map(message -> {
@@ -433,6 +449,7 @@ public class AllAuthUserService {
                                 messageResponses,
                                 allParticipants // ✅ PASS THE LIST
                 );
+                response.setUnreadCount(unreadCount);
 
                 log.info("Found {} messages in conversation: {}", messageResponses.size(), conversationId);
 
@@ -8,10 +8,13 @@ import org.example.Broomate.dto.request.guest.LoginRequest;
 import org.example.Broomate.dto.request.guest.SignupLandlordRequest;
 import org.example.Broomate.dto.request.guest.SignupTenantRequest;
 import org.example.Broomate.dto.response.guest.AuthResponse;
+import org.example.Broomate.event.TenantProfileChangedEvent;
+import org.example.Broomate.event.TenantSessionStartedEvent;
 import org.example.Broomate.model.Account;
 import org.example.Broomate.model.Landlord;
 import org.example.Broomate.model.Tenant;
 import org.example.Broomate.repository.GuestAuthRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -35,6 +38,7 @@ public class AuthService {
     private final AuthenticationManager authenticationManager;
     private final CustomUserDetailsService userDetailsService;
     private final FileStorageService fileStorageService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // ========================================
     // 1. LOGIN - ✅ FIXED: Auto-reactivate deactivated accounts
@@ -58,6 +62,10 @@ public class AuthService {
             // Save the updated account based on role
             if (account.getRole() == Account.AccountRoleEnum.TENANT) {
                 authRepository.saveTenant((Tenant) account);
+                eventPublisher.publishEvent(TenantProfileChangedEvent.builder()
+                        .tenantId(account.getId())
+                        .tenant((Tenant) account)
+                        .build());
             } else if (account.getRole() == Account.AccountRoleEnum.LANDLORD) {
                 authRepository.saveLandlord((Landlord) account);
             }
@@ -87,6 +95,13 @@ public class AuthService {
 
         log.info("Login successful for email: {}", request.getEmail());
 
+        // Start building the tenant's swipe deck in the background
+        if (account.getRole() == Account.AccountRoleEnum.TENANT) {
+            eventPublisher.publishEvent(TenantSessionStartedEvent.builder()
+                    .tenantId(account.getId())
+                    .build());
+        }
+
         // 5. Return response with token
         return AuthResponse.builder()
                 .token(jwt)
@@ -164,6 +179,11 @@ public class AuthService {
             Account account = authRepository.saveTenant(tenant);
             log.info("Tenant account created: {}", userId);
 
+            eventPublisher.publishEvent(TenantProfileChangedEvent.builder()
+                    .tenantId(userId)
+                    .tenant(tenant)
+                    .build());
+
             // 6. Generate JWT token
             String jwt = jwtUtil.generateToken(
                     account.getEmail(),
@@ -7,10 +7,16 @@ import org.example.Broomate.dto.request.landlord.CreateRoomRequestJSON;
 import org.example.Broomate.dto.request.landlord.UpdateLandlordProfileRequest;
 import org.example.Broomate.dto.request.landlord.UpdateRoomWithBothInfoAndMediaRequest;
 import org.example.Broomate.dto.response.landlord.LandlordProfileResponse;
+import org.example.Broomate.dto.response.landlord.RoomSummaryPageResponse;
+import org.example.Broomate.dto.response.landlord.RoomSummaryResponse;
 import org.example.Broomate.dto.response.allAuthUser.RoomDetailResponse;
+import org.example.Broomate.event.LandlordProfileChangedEvent;
+import org.example.Broomate.event.RoomChangedEvent;
 import org.example.Broomate.model.Landlord;
 import org.example.Broomate.model.Room;
 import org.example.Broomate.repository.LandlordRepository;
+import org.example.Broomate.util.PageCursor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
@@ -20,6 +26,7 @@ import org.springframework.web.server.ResponseStatusException;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
@@ -31,6 +38,11 @@ public class LandlordService {
 
     private final LandlordRepository landlordRepository;
     private final FileStorageService fileStorageService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RoomStatsService roomStatsService;
+
+    private static final int DEFAULT_ROOM_PAGE_SIZE = 20;
+    private static final int MAX_ROOM_PAGE_SIZE = 30;
 
     // ========================================
     // SCENARIO 1: CREATE ROOM (WITH ATOMICITY)(WITH PARALLEL UPLOADS)
@@ -143,6 +155,7 @@ public class LandlordService {
 
             // 4. Save to Firestore
             Room savedRoom = landlordRepository.saveRoom(room);
+            publishRoomChanged(savedRoom);
 
             log.info("Room created successfully with ID: {}", savedRoom.getId());
 
@@ -318,6 +331,7 @@ public class LandlordService {
 
             // 6. Save updated room
             Room updatedRoom = landlordRepository.updateRoom(roomId, room);
+            publishRoomChanged(updatedRoom);
 
             log.info("Room updated successfully: {}", roomId);
 
@@ -383,6 +397,9 @@ public class LandlordService {
             landlord.setUpdatedAt(Timestamp.now());
 
             Landlord updatedLandlord = landlordRepository.update(landlordId, landlord);
+            eventPublisher.publishEvent(LandlordProfileChangedEvent.builder()
+                    .landlordId(landlordId)
+                    .build());
 
             log.info("Landlord profile updated successfully: {}", landlordId);
 
@@ -433,6 +450,58 @@ public class LandlordService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * One page of the landlord's rooms as lightweight summaries (no media lists), newest first
+     */
+    public RoomSummaryPageResponse getMyRoomSummaries(String landlordId, String cursor, Integer size) {
+        int pageSize = size == null ? DEFAULT_ROOM_PAGE_SIZE : Math.max(1, Math.min(size, MAX_ROOM_PAGE_SIZE));
+        PageCursor after = PageCursor.decode(cursor);
+        int currentPage = after != null ? after.getPage() : 0;
+
+        log.info("Getting room summaries for landlord {} (page: {}, size: {})", landlordId, currentPage, pageSize);
+
+        // Fetch one extra room to know whether another page exists
+        List<Room> rooms = landlordRepository.findRoomSummariesPage(landlordId, after, pageSize + 1);
+        boolean hasMore = rooms.size() > pageSize;
+        if (hasMore) {
+            rooms = rooms.subList(0, pageSize);
+        }
+
+        String nextCursor = null;
+        if (hasMore) {
+            Room last = rooms.get(rooms.size() - 1);
+            nextCursor = new PageCursor(last.getCreatedAt(), last.getId(), currentPage + 1).encode();
+        }
+
+        Map<String, RoomStatsService.RoomCounts> counts = roomStatsService.findCounts(
+                rooms.stream().map(Room::getId).collect(Collectors.toList()));
+
+        List<RoomSummaryResponse> summaries = new ArrayList<>(rooms.size());
+        for (Room room : rooms) {
+            RoomStatsService.RoomCounts roomCounts = counts.get(room.getId());
+            summaries.add(RoomSummaryResponse.builder()
+                    .id(room.getId())
+                    .title(room.getTitle())
+                    .thumbnailUrl(room.getThumbnailUrl())
+                    .rentPricePerMonth(room.getRentPricePerMonth())
+                    .status(room.getStatus())
+                    .views(roomCounts != null ? roomCounts.views() : 0L)
+                    .inquiries(roomCounts != null ? roomCounts.inquiries() : 0L)
+                    .createdAt(room.getCreatedAt() != null ? room.getCreatedAt().toString() : null)
+                    .updatedAt(room.getUpdatedAt() != null ? room.getUpdatedAt().toString() : null)
+                    .build());
+        }
+
+        return RoomSummaryPageResponse.builder()
+                .rooms(summaries)
+                .totalElements(landlordRepository.countRoomsByLandlordUserId(landlordId))
+                .currentPage(currentPage)
+                .pageSize(pageSize)
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .build();
+    }
+
     /**
      * Helper method to convert Room entity to RoomDetailResponse
      * (You might already have this method - if so, just use it)
@@ -440,4 +509,14 @@ public class LandlordService {
     private RoomDetailResponse convertRoomToDetailResponse(Room room) {
         return RoomDetailResponse.fromRoom(room); // ✅ Use the existing static method
     }
-}
\ No newline at end of file
+
+    /**
+     * Keep in-memory room indexes and caches in step with a saved room
+     */
+    private void publishRoomChanged(Room room) {
+        eventPublisher.publishEvent(RoomChangedEvent.builder()
+                .roomId(room.getId())
+                .room(room)
+                .build());
+    }
+}
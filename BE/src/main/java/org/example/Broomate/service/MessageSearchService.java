@@ -0,0 +1,125 @@
+package org.example.Broomate.service;
+
+import com.google.cloud.Timestamp;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.Broomate.dto.response.allAuthUser.MessageDetailResponse;
+import org.example.Broomate.dto.response.allAuthUser.MessageSearchResponse;
+import org.example.Broomate.index.MessageSearchIndex;
+import org.example.Broomate.model.Conversation;
+import org.example.Broomate.model.Message;
+import org.example.Broomate.repository.AllAuthUserRepository;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Chat history search served from the embedded message index. The first search of a user
+ * in this process reconciles each of their conversations with Firestore once and backfills
+ * any with missing messages; after that new messages arrive through MessageSentEvent.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MessageSearchService {
+
+    private static final int DEFAULT_LIMIT = 20;
+    private static final int MAX_LIMIT = 100;
+
+    private final MessageSearchIndex messageSearchIndex;
+    private final AllAuthUserRepository repository;
+
+    // Users whose conversations have been checked against the index since startup
+    private final Set<String> syncedUsers = ConcurrentHashMap.newKeySet();
+
+    public MessageSearchResponse searchMessages(String userId, String query, String conversationId, Integer limit) {
+        if (query == null || query.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Query must not be empty");
+        }
+        int size = limit == null ? DEFAULT_LIMIT : Math.min(Math.max(limit, 1), MAX_LIMIT);
+
+        syncUser(userId);
+
+        if (conversationId != null && !messageSearchIndex.participantsOf(conversationId).contains(userId)) {
+            Conversation conversation = repository.findConversationById(conversationId)
+                    .orElseThrow(() -> new ResponseStatusException(
+                            HttpStatus.NOT_FOUND,
+                            "Conversation not found with ID: " + conversationId));
+            if (!conversation.getParticipantIds().contains(userId)) {
+                throw new ResponseStatusException(
+                        HttpStatus.FORBIDDEN,
+                        "You are not a participant in this conversation");
+            }
+        }
+
+        List<MessageDetailResponse> messages = messageSearchIndex.search(userId, conversationId, query, size).stream()
+                .map(hit -> MessageDetailResponse.builder()
+                        .id(hit.messageId())
+                        .conversationId(hit.conversationId())
+                        .senderId(hit.senderId())
+                        .content(hit.content())
+                        .createdAt(hit.createdAt().toString())
+                        .build())
+                .toList();
+
+        log.info("Message search by user {} returned {} results", userId, messages.size());
+
+        return MessageSearchResponse.builder()
+                .messages(messages)
+                .totalCount(messages.size())
+                .query(query)
+                .message("Messages retrieved successfully")
+                .build();
+    }
+
+    // ========================================
+    // PRIVATE HELPER METHODS
+    // ========================================
+
+    /**
+     * Backfill conversations with messages missing from the index (never indexed, or lost
+     * in an unclean shutdown before being flushed). The newest indexed message is not enough
+     * to tell: messages sent after a restart hide the gap, so the indexed message count is
+     * compared with Firestore's.
+     */
+    private void syncUser(String userId) {
+        if (syncedUsers.contains(userId)) {
+            return;
+        }
+
+        int backfilled = 0;
+        for (Conversation conversation : repository.findConversationsByUserId(userId)) {
+            if (conversation.getLastMessageAt() == null
+                    || messageSearchIndex.isVerified(conversation.getId())) {
+                continue;
+            }
+            Timestamp latest = messageSearchIndex.latestCreatedAt(conversation.getId());
+            if (latest != null && latest.compareTo(conversation.getLastMessageAt()) >= 0
+                    && messageSearchIndex.messageCount(conversation.getId())
+                    >= repository.countMessagesByConversationId(conversation.getId())) {
+                messageSearchIndex.markVerified(conversation.getId());
+                continue;
+            }
+
+            for (Message message : repository.findMessagesByConversationId(conversation.getId())) {
+                messageSearchIndex.add(conversation.getParticipantIds(), new MessageSearchIndex.IndexedMessage(
+                        message.getId(),
+                        conversation.getId(),
+                        message.getSenderId(),
+                        message.getContent(),
+                        message.getCreatedAt() != null ? message.getCreatedAt() : Timestamp.MIN_VALUE));
+            }
+            messageSearchIndex.markVerified(conversation.getId());
+            backfilled++;
+        }
+
+        syncedUsers.add(userId);
+        if (backfilled > 0) {
+            log.info("Backfilled {} conversations into the message index for user {}", backfilled, userId);
+        }
+    }
+}
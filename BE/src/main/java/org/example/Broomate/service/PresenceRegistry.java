@@ -0,0 +1,149 @@
+package org.example.Broomate.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.Broomate.dto.response.allAuthUser.PresenceListResponse;
+import org.example.Broomate.dto.response.allAuthUser.PresenceResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * In-memory presence of WebSocket users, never persisted. A user is online while they have
+ * a session that sent a frame (STOMP heartbeats included) within the TTL; sessions that died
+ * without a DISCONNECT simply stop counting once they go quiet.
+ */
+@Slf4j
+@Service
+public class PresenceRegistry {
+
+    private static final int MAX_USERS_PER_LOOKUP = 100;
+
+    private final long ttlMillis;
+    private final long retentionMillis;
+    private final LongSupplier clock;     // Epoch millis
+
+    private static final class Presence {
+        final Set<String> sessionIds = ConcurrentHashMap.newKeySet();
+        volatile long lastSeenMillis;
+    }
+
+    public record PresenceState(boolean online, Long lastSeenMillis) {
+    }
+
+    // User ID -> sessions and last activity
+    private final Map<String, Presence> presenceByUser = new ConcurrentHashMap<>();
+
+    // Session ID -> user ID
+    private final Map<String, String> userBySession = new ConcurrentHashMap<>();
+
+    @Autowired
+    public PresenceRegistry(
+            @Value("${broomate.presence.ttl-ms:30000}") long ttlMillis,
+            @Value("${broomate.presence.retention-ms:86400000}") long retentionMillis) {
+        this(ttlMillis, retentionMillis, System::currentTimeMillis);
+    }
+
+    public PresenceRegistry(long ttlMillis, long retentionMillis, LongSupplier clock) {
+        this.ttlMillis = ttlMillis;
+        this.retentionMillis = retentionMillis;
+        this.clock = clock;
+    }
+
+    public void connected(String userId, String sessionId) {
+        userBySession.put(sessionId, userId);
+        presenceByUser.compute(userId, (id, presence) -> {
+            Presence updated = presence != null ? presence : new Presence();
+            updated.sessionIds.add(sessionId);
+            updated.lastSeenMillis = clock.getAsLong();
+            return updated;
+        });
+    }
+
+    public void disconnected(String sessionId) {
+        String userId = userBySession.remove(sessionId);
+        if (userId == null) {
+            return;
+        }
+        presenceByUser.computeIfPresent(userId, (id, presence) -> {
+            presence.sessionIds.remove(sessionId);
+            presence.lastSeenMillis = clock.getAsLong();
+            return presence;
+        });
+    }
+
+    /**
+     * Record activity on a session; called for every inbound frame including heartbeats
+     */
+    public void touch(String sessionId) {
+        String userId = userBySession.get(sessionId);
+        if (userId == null) {
+            return;
+        }
+        Presence presence = presenceByUser.get(userId);
+        if (presence != null) {
+            presence.lastSeenMillis = clock.getAsLong();
+        }
+    }
+
+    /**
+     * Presence of the given users. Entries offline for longer than the retention are
+     * dropped here instead of by a sweeper, and then report no last-seen time.
+     */
+    public Map<String, PresenceState> findPresence(Iterable<String> userIds) {
+        long now = clock.getAsLong();
+        Map<String, PresenceState> result = new LinkedHashMap<>();
+        for (String userId : userIds) {
+            Presence presence = presenceByUser.get(userId);
+            if (presence == null) {
+                result.put(userId, new PresenceState(false, null));
+                continue;
+            }
+
+            long lastSeen = presence.lastSeenMillis;
+            boolean online = !presence.sessionIds.isEmpty() && now - lastSeen <= ttlMillis;
+            if (!online && now - lastSeen > retentionMillis) {
+                // Re-checked atomically in case the user reconnected meanwhile
+                presenceByUser.computeIfPresent(userId, (id, current) ->
+                        current.sessionIds.isEmpty() && now - current.lastSeenMillis > retentionMillis ? null : current);
+                result.put(userId, new PresenceState(false, null));
+                continue;
+            }
+            result.put(userId, new PresenceState(online, lastSeen));
+        }
+        return result;
+    }
+
+    public PresenceListResponse getPresence(List<String> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "userIds is required");
+        }
+        if (userIds.size() > MAX_USERS_PER_LOOKUP) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "At most " + MAX_USERS_PER_LOOKUP + " users can be looked up at once");
+        }
+
+        List<PresenceResponse> users = new ArrayList<>(userIds.size());
+        findPresence(userIds).forEach((userId, state) -> users.add(PresenceResponse.builder()
+                .userId(userId)
+                .online(state.online())
+                .lastSeenAt(state.lastSeenMillis() != null
+                        ? Instant.ofEpochMilli(state.lastSeenMillis()).toString() : null)
+                .build()));
+
+        return PresenceListResponse.builder()
+                .users(users)
+                .message("Presence retrieved successfully")
+                .build();
+    }
+}
@@ -0,0 +1,204 @@
+package org.example.Broomate.service;
+
+import com.google.cloud.Timestamp;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.Broomate.event.MessagesReadEvent;
+import org.example.Broomate.model.Conversation;
+import org.example.Broomate.model.Message;
+import org.example.Broomate.repository.AllAuthUserRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read receipts as a per (user, conversation) "read up to" watermark. Marking messages read
+ * only advances the watermark in memory and notifies the other participants; advanced
+ * watermarks are coalesced and written behind in batches, one write per conversation.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReadReceiptService {
+
+    private final AllAuthUserRepository repository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private record Key(String conversationId, String userId) {
+    }
+
+    // Conversation ID -> participant IDs (participants never change after creation)
+    private final Map<String, List<String>> participantsByConversation = new ConcurrentHashMap<>();
+
+    // Highest known watermark per (conversation, user)
+    private final Map<Key, Timestamp> watermarks = new ConcurrentHashMap<>();
+
+    // Watermarks advanced since the last flush
+    private final Map<Key, Timestamp> pending = new ConcurrentHashMap<>();
+
+    /**
+     * Advance the caller's watermark in a conversation. A watermark never moves backwards or
+     * past the current time; returns the effective watermark.
+     */
+    public Timestamp markRead(String userId, String conversationId, String readUpTo) {
+        List<String> participantIds = findParticipants(conversationId);
+        if (!participantIds.contains(userId)) {
+            throw new ResponseStatusException(
+                    HttpStatus.FORBIDDEN,
+                    "You are not a participant in this conversation");
+        }
+
+        Timestamp now = Timestamp.now();
+        Timestamp requested = now;
+        if (readUpTo != null && !readUpTo.isBlank()) {
+            try {
+                requested = Timestamp.parseTimestamp(readUpTo);
+            } catch (RuntimeException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid readUpTo timestamp: " + readUpTo);
+            }
+            if (requested.compareTo(now) > 0) {
+                requested = now;
+            }
+        }
+
+        Key key = new Key(conversationId, userId);
+        Timestamp target = requested;
+        boolean[] advanced = {false};
+        Timestamp effective = watermarks.compute(key, (k, current) -> {
+            if (current != null && current.compareTo(target) >= 0) {
+                return current;
+            }
+            advanced[0] = true;
+            return target;
+        });
+
+        if (advanced[0]) {
+            pending.merge(key, effective, ReadReceiptService::later);
+            eventPublisher.publishEvent(MessagesReadEvent.builder()
+                    .conversationId(conversationId)
+                    .userId(userId)
+                    .readUpTo(effective)
+                    .participantIds(participantIds)
+                    .build());
+        }
+        return effective;
+    }
+
+    /**
+     * Participants of a conversation, loaded once and cached since participants never change
+     */
+    public List<String> findParticipants(String conversationId) {
+        List<String> participantIds = participantsByConversation.get(conversationId);
+        if (participantIds != null) {
+            return participantIds;
+        }
+
+        Conversation conversation = repository.findConversationById(conversationId)
+                .orElseThrow(() -> new ResponseStatusException(
+                        HttpStatus.NOT_FOUND,
+                        "Conversation not found with ID: " + conversationId));
+        return rememberConversation(conversation);
+    }
+
+    /**
+     * Current watermark of every participant who has read anything, including watermarks not flushed yet
+     */
+    public Map<String, Timestamp> getWatermarks(Conversation conversation) {
+        rememberConversation(conversation);
+
+        Map<String, Timestamp> result = new HashMap<>();
+        for (String participantId : conversation.getParticipantIds()) {
+            Timestamp watermark = watermarks.get(new Key(conversation.getId(), participantId));
+            if (watermark != null) {
+                result.put(participantId, watermark);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Readers of a message: its stored readBy plus every participant whose watermark covers it
+     */
+    public static List<String> readersOf(Message message, Map<String, Timestamp> watermarks) {
+        List<String> readers = message.getReadBy() != null ? new ArrayList<>(message.getReadBy()) : new ArrayList<>();
+        if (message.getCreatedAt() == null) {
+            return readers;
+        }
+        watermarks.forEach((userId, watermark) -> {
+            if (watermark.compareTo(message.getCreatedAt()) >= 0 && !readers.contains(userId)) {
+                readers.add(userId);
+            }
+        });
+        return readers;
+    }
+
+    // ========================================
+    // FLUSH
+    // ========================================
+
+    /**
+     * Write advanced watermarks behind. Each entry is removed only if it was not advanced again
+     * meanwhile, so a newer watermark is kept for the next flush.
+     */
+    @Scheduled(fixedDelayString = "${broomate.read-receipts.flush-interval-ms:5000}")
+    @PreDestroy
+    public void flush() {
+        Map<Key, Timestamp> drained = new HashMap<>();
+        pending.forEach((key, watermark) -> {
+            if (pending.remove(key, watermark)) {
+                drained.put(key, watermark);
+            }
+        });
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        Map<String, Map<String, Timestamp>> byConversation = new HashMap<>();
+        drained.forEach((key, watermark) -> byConversation
+                .computeIfAbsent(key.conversationId(), id -> new HashMap<>())
+                .put(key.userId(), watermark));
+
+        try {
+            repository.updateReadWatermarks(byConversation);
+            log.debug("Flushed {} read watermarks across {} conversations", drained.size(), byConversation.size());
+        } catch (RuntimeException e) {
+            // Put the watermarks back so the next flush retries them
+            drained.forEach((key, watermark) -> pending.merge(key, watermark, ReadReceiptService::later));
+            log.warn("Failed to flush read watermarks, will retry", e);
+        }
+    }
+
+    // ========================================
+    // PRIVATE HELPER METHODS
+    // ========================================
+
+    /**
+     * Cache the participants and seed watermarks from the stored ones, so a restart never
+     * writes a watermark lower than what is already persisted
+     */
+    private List<String> rememberConversation(Conversation conversation) {
+        if (conversation.getReadUpTo() != null) {
+            conversation.getReadUpTo().forEach((userId, watermark) -> {
+                if (watermark != null) {
+                    watermarks.merge(new Key(conversation.getId(), userId), watermark, ReadReceiptService::later);
+                }
+            });
+        }
+        List<String> participantIds = List.copyOf(conversation.getParticipantIds());
+        participantsByConversation.put(conversation.getId(), participantIds);
+        return participantIds;
+    }
+
+    private static Timestamp later(Timestamp a, Timestamp b) {
+        return a.compareTo(b) >= 0 ? a : b;
+    }
+}
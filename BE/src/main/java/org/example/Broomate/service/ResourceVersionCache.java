@@ -0,0 +1,149 @@
+package org.example.Broomate.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.Broomate.event.ConversationCreatedEvent;
+import org.example.Broomate.event.LandlordProfileChangedEvent;
+import org.example.Broomate.event.MessageSentEvent;
+import org.example.Broomate.event.TenantProfileChangedEvent;
+import org.example.Broomate.index.RoomDirectory;
+import org.example.Broomate.index.TenantDirectory;
+import org.example.Broomate.model.Conversation;
+import org.example.Broomate.model.Room;
+import org.example.Broomate.repository.AllAuthUserRepository;
+import org.example.Broomate.util.ETags;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Current ETags for cacheable reads, resolved without touching Firestore.
+ * Rooms and tenant profiles come from the in-memory directories; a conversation list has no
+ * single updatedAt, so each user gets a generation number that is replaced whenever one of
+ * their conversations changes.
+ */
+@Slf4j
+@Component
+public class ResourceVersionCache {
+
+    // Bounds staleness from changes that publish no event or whose invalidation failed
+    private static final long CONVERSATIONS_TTL_NANOS = TimeUnit.MINUTES.toNanos(5);
+
+    // Generations restart with the process, so tag them with the boot time to never reuse an old ETag
+    private final String bootId = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong generations = new AtomicLong();
+    private final Map<String, Generation> conversationGenerations = new ConcurrentHashMap<>();
+
+    private final RoomDirectory roomDirectory;
+    private final TenantDirectory tenantDirectory;
+    private final AllAuthUserRepository allAuthUserRepository;
+
+    private record Generation(String etag, long expiresAtNanos) {
+    }
+
+    public ResourceVersionCache(
+            RoomDirectory roomDirectory,
+            TenantDirectory tenantDirectory,
+            AllAuthUserRepository allAuthUserRepository) {
+        this.roomDirectory = roomDirectory;
+        this.tenantDirectory = tenantDirectory;
+        this.allAuthUserRepository = allAuthUserRepository;
+    }
+
+    public static String roomETag(String roomId, String updatedAt) {
+        return ETags.of("room", roomId, updatedAt);
+    }
+
+    public static String tenantETag(String tenantId, String updatedAt) {
+        return ETags.of("tenant", tenantId, updatedAt);
+    }
+
+    public static String landlordETag(String landlordId, String updatedAt) {
+        return ETags.of("landlord", landlordId, updatedAt);
+    }
+
+    /**
+     * ETag of a published room, or empty when it is not in the room directory
+     */
+    public Optional<String> findRoomETag(String roomId) {
+        int ordinal = roomDirectory.ordinalOf(roomId);
+        Room room = ordinal >= 0 ? roomDirectory.roomAt(ordinal) : null;
+        if (room == null) {
+            return Optional.empty();
+        }
+        return Optional.of(roomETag(roomId, room.getUpdatedAt() != null ? room.getUpdatedAt().toString() : null));
+    }
+
+    /**
+     * ETag of an active tenant's profile, or empty when it is not in the tenant directory
+     */
+    public Optional<String> findTenantETag(String tenantId) {
+        return tenantDirectory.findById(tenantId)
+                .map(tenant -> tenantETag(tenantId, tenant.getUpdatedAt() != null ? tenant.getUpdatedAt().toString() : null));
+    }
+
+    /**
+     * ETag of the user's conversation list. Call it before loading the list: a change while
+     * loading replaces the generation, so the (possibly stale) response can't be revalidated.
+     */
+    public String conversationsETag(String userId) {
+        long now = System.nanoTime();
+        return conversationGenerations.compute(userId, (id, current) ->
+                current != null && now - current.expiresAtNanos() < 0
+                        ? current
+                        : new Generation(
+                                ETags.of("conversations", id, bootId + "." + generations.incrementAndGet()),
+                                now + CONVERSATIONS_TTL_NANOS))
+                .etag();
+    }
+
+    // ========================================
+    // INVALIDATION
+    // ========================================
+
+    @EventListener
+    public void onMessageSent(MessageSentEvent event) {
+        invalidateConversations(event.getParticipantIds());
+    }
+
+    @EventListener
+    public void onConversationCreated(ConversationCreatedEvent event) {
+        invalidateConversations(event.getParticipantIds());
+    }
+
+    /**
+     * Conversation lists embed participant names and avatars
+     */
+    @EventListener
+    public void onTenantProfileChanged(TenantProfileChangedEvent event) {
+        conversationGenerations.clear();
+    }
+
+    /**
+     * Only users sharing a conversation with the landlord see their name and avatar
+     */
+    @EventListener
+    public void onLandlordProfileChanged(LandlordProfileChangedEvent event) {
+        try {
+            for (Conversation conversation : allAuthUserRepository.findConversationsByUserId(event.getLandlordId())) {
+                invalidateConversations(conversation.getParticipantIds());
+            }
+        } catch (RuntimeException e) {
+            // Without the participant list, every cached list may be stale
+            log.warn("Failed to find conversations of landlord {}, invalidating all conversation lists",
+                    event.getLandlordId(), e);
+            conversationGenerations.clear();
+        }
+    }
+
+    private void invalidateConversations(Collection<String> participantIds) {
+        if (participantIds != null) {
+            participantIds.forEach(conversationGenerations::remove);
+        }
+    }
+}
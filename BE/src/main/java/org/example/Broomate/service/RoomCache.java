@@ -0,0 +1,60 @@
+package org.example.Broomate.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.example.Broomate.event.RoomChangedEvent;
+import org.example.Broomate.model.Room;
+import org.example.Broomate.repository.AllAuthUserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Bounded read-through cache of rooms by ID (any status), in front of Firestore.
+ * Cached rooms are shared between callers and must not be modified.
+ * Exported as cache.gets / cache.evictions etc. with tag cache=rooms.
+ */
+@Slf4j
+@Component
+public class RoomCache {
+
+    private final AllAuthUserRepository allAuthUserRepository;
+    private final Cache<String, Room> rooms;
+
+    public RoomCache(
+            AllAuthUserRepository allAuthUserRepository,
+            MeterRegistry meterRegistry,
+            @Value("${broomate.room-cache.max-size:5000}") long maxSize,
+            @Value("${broomate.room-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.allAuthUserRepository = allAuthUserRepository;
+        this.rooms = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, rooms, "rooms");
+    }
+
+    /**
+     * Room by ID; concurrent misses for the same room share one Firestore read.
+     * Missing rooms are not cached.
+     */
+    public Optional<Room> findById(String roomId) {
+        return Optional.ofNullable(rooms.get(roomId, id -> allAuthUserRepository.findRoomById(id).orElse(null)));
+    }
+
+    /**
+     * A room was created or updated (info, media or status)
+     */
+    @EventListener
+    public void onRoomChanged(RoomChangedEvent event) {
+        rooms.invalidate(event.getRoomId());
+        log.debug("Room {} evicted from cache", event.getRoomId());
+    }
+}
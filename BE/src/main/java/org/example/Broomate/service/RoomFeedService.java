@@ -0,0 +1,125 @@
+package org.example.Broomate.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.example.Broomate.dto.response.allAuthUser.RoomDetailResponse;
+import org.example.Broomate.dto.response.allAuthUser.RoomListResponse;
+import org.example.Broomate.index.RoomDirectory;
+import org.example.Broomate.model.Room;
+import org.example.Broomate.util.ETags;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The public published-room feed, kept as ready-to-send JSON and gzip bytes.
+ * The snapshot is rebuilt from the room directory on the first request after a room changes,
+ * so serving the feed costs no Firestore read and no serialization.
+ */
+@Slf4j
+@Service
+public class RoomFeedService {
+
+    private final RoomDirectory roomDirectory;
+    private final AllAuthUserService allAuthUserService;
+    private final ObjectMapper objectMapper;
+
+    // Feed versions restart with the process, so tag ETags with the boot time
+    private final String bootId = Long.toString(System.currentTimeMillis(), 36);
+    private volatile FeedSnapshot snapshot;
+
+    /**
+     * One serialized version of the feed; the ETags differ per encoding as the bytes do
+     */
+    public record FeedSnapshot(byte[] json, byte[] gzip, String etag, String gzipETag) {
+    }
+
+    public RoomFeedService(RoomDirectory roomDirectory, AllAuthUserService allAuthUserService, ObjectMapper objectMapper) {
+        this.roomDirectory = roomDirectory;
+        this.allAuthUserService = allAuthUserService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Current feed; until the room directory has loaded it is read from Firestore and not cached
+     */
+    public FeedSnapshot currentFeed() {
+        if (!roomDirectory.isReady()) {
+            return serialize(allAuthUserService.getAllRooms(), null);
+        }
+
+        long version = roomDirectory.version();
+        FeedSnapshot current = snapshot;
+        if (current != null && current.etag().equals(etagFor(version))) {
+            return current;
+        }
+
+        synchronized (this) {
+            // Another request may have rebuilt it while we waited
+            version = roomDirectory.version();
+            current = snapshot;
+            if (current == null || !current.etag().equals(etagFor(version))) {
+                current = serialize(buildFeed(), etagFor(version));
+                snapshot = current;
+                log.info("Rebuilt public room feed (version {}, {} bytes, {} gzipped)",
+                        version, current.json().length, current.gzip().length);
+            }
+            return current;
+        }
+    }
+
+    // ========================================
+    // PRIVATE HELPER METHODS
+    // ========================================
+
+    private RoomListResponse buildFeed() {
+        BitSet publishedOrdinals = roomDirectory.publishedOrdinals();
+        List<Room> rooms = new ArrayList<>(publishedOrdinals.cardinality());
+        publishedOrdinals.stream().forEach(ordinal -> {
+            Room room = roomDirectory.roomAt(ordinal);
+            if (room != null) {
+                rooms.add(room);
+            }
+        });
+        rooms.sort(Comparator.comparing(Room::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder())));
+
+        List<RoomDetailResponse> roomResponses = new ArrayList<>(rooms.size());
+        rooms.forEach(room -> roomResponses.add(RoomDetailResponse.fromRoom(room)));
+
+        return RoomListResponse.builder()
+                .rooms(roomResponses)
+                .totalCount(roomResponses.size())
+                .message("Rooms retrieved successfully")
+                .build();
+    }
+
+    private FeedSnapshot serialize(RoomListResponse feed, String etag) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(feed);
+
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 4 + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(json);
+            }
+
+            String gzipETag = etag != null ? etag.substring(0, etag.length() - 1) + "-gzip\"" : null;
+            return new FeedSnapshot(json, compressed.toByteArray(), etag, gzipETag);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize room feed", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compress room feed", e);
+        }
+    }
+
+    private String etagFor(long version) {
+        return ETags.of("room-feed", bootId, Long.toString(version));
+    }
+}
@@ -0,0 +1,116 @@
+package org.example.Broomate.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.Broomate.dto.response.allAuthUser.RoomDetailResponse;
+import org.example.Broomate.dto.response.allAuthUser.RoomListResponse;
+import org.example.Broomate.event.TenantProfileChangedEvent;
+import org.example.Broomate.index.RoomDirectory;
+import org.example.Broomate.index.RoomRecommendationIndex;
+import org.example.Broomate.index.TenantDirectory;
+import org.example.Broomate.model.Room;
+import org.example.Broomate.model.Tenant;
+import org.example.Broomate.repository.TenantRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.*;
+
+/**
+ * Published rooms ranked against a tenant's own criteria (budget, stay length, window,
+ * bedroom/toilet sharing, preferred districts)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RoomRecommendationService {
+
+    private static final int DEFAULT_LIMIT = 20;
+    private static final int MAX_LIMIT = 100;
+    private static final int CACHE_SIZE = 1024;
+
+    private final RoomDirectory roomDirectory;
+    private final RoomRecommendationIndex roomRecommendationIndex;
+    private final TenantDirectory tenantDirectory;
+    private final TenantRepository tenantRepository;
+
+    // Tenant ID -> top MAX_LIMIT rooms, valid while the room index version is unchanged
+    private final Map<String, CachedRecommendations> cache = Collections.synchronizedMap(
+            new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedRecommendations> eldest) {
+                    return size() > CACHE_SIZE;
+                }
+            });
+
+    private record CachedRecommendations(long version, List<RoomRecommendationIndex.ScoredRoom> rooms) {
+    }
+
+    /**
+     * Rooms best matching the tenant's profile, highest match first
+     */
+    public RoomListResponse getRecommendedRooms(String tenantId, Integer limit) {
+        if (!roomDirectory.isReady()) {
+            throw new ResponseStatusException(
+                    HttpStatus.SERVICE_UNAVAILABLE,
+                    "Room recommendations are not available yet, please try again shortly");
+        }
+
+        int size = limit == null ? DEFAULT_LIMIT : Math.max(1, Math.min(limit, MAX_LIMIT));
+        log.info("Getting {} recommended rooms for tenant: {}", size, tenantId);
+
+        List<RoomRecommendationIndex.ScoredRoom> scored = findRecommendations(tenantId);
+        List<RoomDetailResponse> rooms = new ArrayList<>(size);
+        for (RoomRecommendationIndex.ScoredRoom hit : scored) {
+            if (rooms.size() == size) {
+                break;
+            }
+            Room room = roomDirectory.roomAt(hit.ordinal());
+            if (room != null) {
+                RoomDetailResponse response = RoomDetailResponse.fromRoom(room);
+                response.setMatchScore((int) Math.round(hit.score() * 100));
+                rooms.add(response);
+            }
+        }
+
+        return RoomListResponse.builder()
+                .rooms(rooms)
+                .totalCount(rooms.size())
+                .message("Recommended rooms retrieved successfully")
+                .build();
+    }
+
+    /**
+     * The tenant's criteria changed, so their ranking is stale
+     */
+    @EventListener
+    public void onTenantProfileChanged(TenantProfileChangedEvent event) {
+        cache.remove(event.getTenantId());
+    }
+
+    // ========================================
+    // PRIVATE HELPER METHODS
+    // ========================================
+
+    private List<RoomRecommendationIndex.ScoredRoom> findRecommendations(String tenantId) {
+        long version = roomRecommendationIndex.version();
+        CachedRecommendations cached = cache.get(tenantId);
+        if (cached != null && cached.version() == version) {
+            return cached.rooms();
+        }
+
+        Tenant tenant = tenantDirectory.findById(tenantId)
+                .or(() -> tenantRepository.findById(tenantId))
+                .orElseThrow(() -> new ResponseStatusException(
+                        HttpStatus.NOT_FOUND,
+                        "Tenant not found with ID: " + tenantId
+                ));
+
+        // Always rank MAX_LIMIT so one entry serves every page size
+        List<RoomRecommendationIndex.ScoredRoom> rooms = roomRecommendationIndex.recommend(tenant, MAX_LIMIT);
+        cache.put(tenantId, new CachedRecommendations(version, rooms));
+        return rooms;
+    }
+}
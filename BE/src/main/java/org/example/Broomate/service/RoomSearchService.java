@@ -0,0 +1,279 @@
+package org.example.Broomate.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.Broomate.dto.response.allAuthUser.RoomClusterListResponse;
+import org.example.Broomate.dto.response.allAuthUser.RoomClusterResponse;
+import org.example.Broomate.dto.response.allAuthUser.RoomDetailResponse;
+import org.example.Broomate.dto.response.allAuthUser.RoomListResponse;
+import org.example.Broomate.dto.response.allAuthUser.RoomSearchResponse;
+import org.example.Broomate.index.GeoRoomIndex;
+import org.example.Broomate.index.RoomClusterIndex;
+import org.example.Broomate.index.RoomAttributeIndex;
+import org.example.Broomate.index.RoomDirectory;
+import org.example.Broomate.index.RoomFilter;
+import org.example.Broomate.index.RoomTextIndex;
+import org.example.Broomate.index.TextAnalyzer;
+import org.example.Broomate.model.Room;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.*;
+
+/**
+ * Room browsing served from the in-memory room directory and its indexes
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RoomSearchService {
+
+    private static final double DEFAULT_RADIUS_KM = 5.0;
+    private static final double MAX_RADIUS_KM = 50.0;
+    private static final int DEFAULT_LIMIT = 50;
+    private static final int MAX_LIMIT = 200;
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int QUERY_CACHE_SIZE = 256;
+
+    private final RoomDirectory roomDirectory;
+    private final GeoRoomIndex geoRoomIndex;
+    private final RoomAttributeIndex roomAttributeIndex;
+    private final RoomTextIndex roomTextIndex;
+    private final RoomClusterIndex roomClusterIndex;
+
+    // Hot normalized filters -> sorted matches, valid while the attribute index version is unchanged
+    private final Map<RoomFilter, CachedMatches> queryCache = Collections.synchronizedMap(
+            new LinkedHashMap<>(QUERY_CACHE_SIZE, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<RoomFilter, CachedMatches> eldest) {
+                    return size() > QUERY_CACHE_SIZE;
+                }
+            });
+
+    private record CachedMatches(long version, int[] ordinals) {
+    }
+
+    // ========================================
+    // ATTRIBUTE SEARCH
+    // ========================================
+
+    /**
+     * Published rooms matching any combination of attribute filters, one page at a time
+     */
+    public RoomSearchResponse search(RoomFilter filter, Integer page, Integer size) {
+        requireReady();
+        requireOrdered(filter.getMinPrice(), filter.getMaxPrice(), "price");
+        requireOrdered(filter.getMinBedRooms(), filter.getMaxBedRooms(), "bedrooms");
+        requireOrdered(filter.getMinToilets(), filter.getMaxToilets(), "toilets");
+
+        int pageNumber = page != null ? Math.max(0, page) : 0;
+        int pageSize = size != null ? Math.max(1, Math.min(size, MAX_PAGE_SIZE)) : DEFAULT_PAGE_SIZE;
+
+        int[] matches = findMatches(filter);
+
+        List<RoomDetailResponse> rooms = new ArrayList<>(pageSize);
+        int from = (int) Math.min((long) pageNumber * pageSize, matches.length);
+        int to = Math.min(from + pageSize, matches.length);
+        for (int i = from; i < to; i++) {
+            Room room = roomDirectory.roomAt(matches[i]);
+            if (room != null) {
+                rooms.add(RoomDetailResponse.fromRoom(room));
+            }
+        }
+
+        return RoomSearchResponse.builder()
+                .rooms(rooms)
+                .totalCount(matches.length)
+                .page(pageNumber)
+                .size(pageSize)
+                .totalPages((matches.length + pageSize - 1) / pageSize)
+                .message("Rooms retrieved successfully")
+                .build();
+    }
+
+    // ========================================
+    // GEO SEARCH
+    // ========================================
+
+    /**
+     * Published rooms within a radius of a point, nearest first
+     */
+    public RoomListResponse findNearby(Double latitude, Double longitude, Double radiusKm, Integer limit) {
+        requireReady();
+        validateCoordinates(latitude, longitude);
+
+        double radius = radiusKm != null ? radiusKm : DEFAULT_RADIUS_KM;
+        if (radius <= 0 || radius > MAX_RADIUS_KM) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "Radius must be between 0 and " + MAX_RADIUS_KM + " km");
+        }
+
+        log.info("Finding rooms within {} km of ({}, {})", radius, latitude, longitude);
+
+        List<GeoRoomIndex.GeoHit> hits = geoRoomIndex.withinRadius(latitude, longitude, radius, limit(limit));
+        return toRoomList(hits);
+    }
+
+    /**
+     * Published rooms inside a bounding box (e.g. the visible map area), nearest to its centre first
+     */
+    public RoomListResponse findWithinBounds(Double minLatitude, Double minLongitude,
+                                             Double maxLatitude, Double maxLongitude, Integer limit) {
+        requireReady();
+        validateCoordinates(minLatitude, minLongitude);
+        validateCoordinates(maxLatitude, maxLongitude);
+        if (minLatitude > maxLatitude || minLongitude > maxLongitude) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "Bounding box minimum must not exceed maximum");
+        }
+
+        List<GeoRoomIndex.GeoHit> hits = geoRoomIndex.withinBounds(
+                minLatitude, minLongitude, maxLatitude, maxLongitude, limit(limit));
+        return toRoomList(hits);
+    }
+
+    /**
+     * Marker clusters for a map viewport; single-room clusters carry the room ID
+     */
+    public RoomClusterListResponse findClusters(Double minLatitude, Double minLongitude,
+                                                Double maxLatitude, Double maxLongitude, Integer zoom) {
+        requireReady();
+        validateCoordinates(minLatitude, minLongitude);
+        validateCoordinates(maxLatitude, maxLongitude);
+        if (minLatitude > maxLatitude || minLongitude > maxLongitude) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "Bounding box minimum must not exceed maximum");
+        }
+        if (zoom == null || zoom < 0 || zoom > 22) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "Zoom must be between 0 and 22");
+        }
+
+        List<RoomClusterIndex.Cluster> clusters = roomClusterIndex.clusters(
+                minLatitude, minLongitude, maxLatitude, maxLongitude, zoom);
+
+        List<RoomClusterResponse> responses = new ArrayList<>(clusters.size());
+        int totalRooms = 0;
+        for (RoomClusterIndex.Cluster cluster : clusters) {
+            Room room = cluster.ordinal() != null ? roomDirectory.roomAt(cluster.ordinal()) : null;
+            responses.add(RoomClusterResponse.builder()
+                    .latitude(cluster.latitude())
+                    .longitude(cluster.longitude())
+                    .count(cluster.count())
+                    .minPrice(cluster.minPrice())
+                    .maxPrice(cluster.maxPrice())
+                    .roomId(room != null ? room.getId() : null)
+                    .build());
+            totalRooms += cluster.count();
+        }
+
+        return RoomClusterListResponse.builder()
+                .clusters(responses)
+                .totalRooms(totalRooms)
+                .zoom(zoom)
+                .message("Clusters retrieved successfully")
+                .build();
+    }
+
+    // ========================================
+    // TEXT SEARCH
+    // ========================================
+
+    /**
+     * Published rooms whose title, description or address match the query, most relevant first.
+     * Diacritics are ignored, so "binh thanh" matches "Bình Thạnh".
+     */
+    public RoomListResponse textSearch(String query, Integer limit) {
+        requireReady();
+        if (query == null || TextAnalyzer.tokenize(query).isEmpty()) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "Search query must contain at least one letter or digit");
+        }
+
+        log.info("Text search for rooms: '{}'", query);
+
+        List<RoomDetailResponse> rooms = new ArrayList<>();
+        for (RoomTextIndex.TextHit hit : roomTextIndex.search(query, limit(limit))) {
+            Room room = roomDirectory.roomAt(hit.ordinal());
+            if (room != null) {
+                rooms.add(RoomDetailResponse.fromRoom(room));
+            }
+        }
+
+        return RoomListResponse.builder()
+                .rooms(rooms)
+                .totalCount(rooms.size())
+                .message("Rooms retrieved successfully")
+                .build();
+    }
+
+    // ========================================
+    // PRIVATE HELPER METHODS
+    // ========================================
+
+    private int[] findMatches(RoomFilter filter) {
+        long version = roomAttributeIndex.version();
+        CachedMatches cached = queryCache.get(filter);
+        if (cached != null && cached.version() == version) {
+            return cached.ordinals();
+        }
+
+        int[] ordinals = roomAttributeIndex.search(filter);
+        queryCache.put(filter, new CachedMatches(version, ordinals));
+        return ordinals;
+    }
+
+    private <T extends Comparable<T>> void requireOrdered(T min, T max, String attribute) {
+        if (min != null && max != null && min.compareTo(max) > 0) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "Minimum " + attribute + " must not exceed maximum " + attribute);
+        }
+    }
+
+    private void requireReady() {
+        if (!roomDirectory.isReady()) {
+            throw new ResponseStatusException(
+                    HttpStatus.SERVICE_UNAVAILABLE,
+                    "Room search is not available yet, please try again shortly");
+        }
+    }
+
+    private void validateCoordinates(Double latitude, Double longitude) {
+        if (latitude == null || longitude == null
+                || Math.abs(latitude) > 90 || Math.abs(longitude) > 180) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "Latitude must be within [-90, 90] and longitude within [-180, 180]");
+        }
+    }
+
+    private int limit(Integer limit) {
+        return limit == null ? DEFAULT_LIMIT : Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
+    private RoomListResponse toRoomList(List<GeoRoomIndex.GeoHit> hits) {
+        List<RoomDetailResponse> rooms = new ArrayList<>(hits.size());
+        for (GeoRoomIndex.GeoHit hit : hits) {
+            Room room = roomDirectory.roomAt(hit.ordinal());
+            if (room != null) {
+                RoomDetailResponse response = RoomDetailResponse.fromRoom(room);
+                response.setDistanceKm(Math.round(hit.distanceKm() * 100) / 100.0);
+                rooms.add(response);
+            }
+        }
+
+        return RoomListResponse.builder()
+                .rooms(rooms)
+                .totalCount(rooms.size())
+                .message("Rooms retrieved successfully")
+                .build();
+    }
+}
@@ -0,0 +1,227 @@
+package org.example.Broomate.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.Broomate.dto.response.allAuthUser.RoomStatsResponse;
+import org.example.Broomate.event.ConversationCreatedEvent;
+import org.example.Broomate.model.Room;
+import org.example.Broomate.model.RoomCounterShard;
+import org.example.Broomate.repository.LandlordRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Room view and inquiry counting. Recording is an in-memory LongAdder increment; buffered
+ * counts are flushed periodically into sharded counter documents, so tracking adds no
+ * Firestore write to the request path. Callers only record rooms that exist, since every
+ * buffered room ID costs a lookup at flush time.
+ */
+@Slf4j
+@Service
+public class RoomStatsService {
+
+    // Deltas per flush write; matches the Firestore batch limit so each call is one commit
+    private static final int FLUSH_CHUNK_SIZE = 500;
+
+    private final LandlordRepository landlordRepository;
+    private final RoomCache roomCache;
+    private final int shardCount;
+
+    // Room ID -> counts not yet flushed
+    private final Map<String, LongAdder> pendingViews = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> pendingInquiries = new ConcurrentHashMap<>();
+
+    public record RoomCounts(long views, long inquiries) {
+    }
+
+    public RoomStatsService(
+            LandlordRepository landlordRepository,
+            RoomCache roomCache,
+            @Value("${broomate.room-stats.shards:10}") int shardCount) {
+        this.landlordRepository = landlordRepository;
+        this.roomCache = roomCache;
+        this.shardCount = shardCount;
+    }
+
+    public void recordView(String roomId) {
+        add(pendingViews, roomId, 1);
+    }
+
+    public void recordInquiry(String roomId) {
+        add(pendingInquiries, roomId, 1);
+    }
+
+    /**
+     * A 3-way conversation about a room counts as an inquiry for it
+     */
+    @EventListener
+    public void onConversationCreated(ConversationCreatedEvent event) {
+        if (event.getRoomId() != null) {
+            recordInquiry(event.getRoomId());
+        }
+    }
+
+    // ========================================
+    // LANDLORD STATS
+    // ========================================
+
+    /**
+     * Room counts by status plus views and inquiries across the landlord's rooms,
+     * including counts not flushed yet
+     */
+    public RoomStatsResponse getRoomStats(String landlordId) {
+        log.info("Getting room stats for landlord: {}", landlordId);
+
+        List<Room> rooms = landlordRepository.findRoomsByLandlordUserId(landlordId);
+        long published = rooms.stream().filter(room -> room.getStatus() == Room.RoomStatus.PUBLISHED).count();
+        long rented = rooms.stream().filter(room -> room.getStatus() == Room.RoomStatus.RENTED).count();
+
+        long totalViews = 0;
+        long totalInquiries = 0;
+        for (RoomCounterShard shard : landlordRepository.findRoomCounterShardsByLandlordId(landlordId)) {
+            totalViews += shard.getViews() != null ? shard.getViews() : 0;
+            totalInquiries += shard.getInquiries() != null ? shard.getInquiries() : 0;
+        }
+        for (Room room : rooms) {
+            totalViews += pending(pendingViews, room.getId());
+            totalInquiries += pending(pendingInquiries, room.getId());
+        }
+
+        return RoomStatsResponse.builder()
+                .totalRooms((long) rooms.size())
+                .publishedRooms(published)
+                .draftRooms(rooms.size() - published - rented)
+                .rentedRooms(rented)
+                .totalViews(totalViews)
+                .totalInquiries(totalInquiries)
+                .averageViewsPerRoom(rooms.isEmpty() ? 0.0 : Math.round(100.0 * totalViews / rooms.size()) / 100.0)
+                .build();
+    }
+
+    /**
+     * Views and inquiries per room (flushed plus pending); rooms without counts are absent
+     */
+    public Map<String, RoomCounts> findCounts(Collection<String> roomIds) {
+        Map<String, long[]> totals = new HashMap<>();
+        if (!roomIds.isEmpty()) {
+            for (RoomCounterShard shard : landlordRepository.findRoomCounterShardsByRoomIds(roomIds)) {
+                long[] total = totals.computeIfAbsent(shard.getRoomId(), id -> new long[2]);
+                total[0] += shard.getViews() != null ? shard.getViews() : 0;
+                total[1] += shard.getInquiries() != null ? shard.getInquiries() : 0;
+            }
+        }
+
+        Map<String, RoomCounts> counts = new HashMap<>();
+        for (String roomId : roomIds) {
+            long[] total = totals.getOrDefault(roomId, new long[2]);
+            long views = total[0] + pending(pendingViews, roomId);
+            long inquiries = total[1] + pending(pendingInquiries, roomId);
+            if (views != 0 || inquiries != 0) {
+                counts.put(roomId, new RoomCounts(views, inquiries));
+            }
+        }
+        return counts;
+    }
+
+    // ========================================
+    // FLUSH
+    // ========================================
+
+    /**
+     * Move buffered counts into counter shards. Adders are reset in place, so increments racing
+     * with the flush stay for the next one; rooms with nothing to flush leave the buffer.
+     * Deltas are written one batch at a time; when a batch fails, only it and the batches
+     * after it are put back.
+     */
+    @Scheduled(fixedDelayString = "${broomate.room-stats.flush-interval-ms:30000}")
+    @PreDestroy
+    public void flush() {
+        Map<String, Long> views = drain(pendingViews);
+        Map<String, Long> inquiries = drain(pendingInquiries);
+        if (views.isEmpty() && inquiries.isEmpty()) {
+            return;
+        }
+
+        Set<String> roomIds = new HashSet<>(views.keySet());
+        roomIds.addAll(inquiries.keySet());
+
+        List<RoomCounterShard> deltas = new ArrayList<>(roomIds.size());
+        for (String roomId : roomIds) {
+            // Counts for rooms that no longer exist are dropped
+            roomCache.findById(roomId).ifPresent(room -> deltas.add(RoomCounterShard.builder()
+                    .roomId(roomId)
+                    .landlordId(room.getLandlordId())
+                    .views(views.getOrDefault(roomId, 0L))
+                    .inquiries(inquiries.getOrDefault(roomId, 0L))
+                    .build()));
+        }
+
+        for (int start = 0; start < deltas.size(); start += FLUSH_CHUNK_SIZE) {
+            try {
+                landlordRepository.incrementRoomCounterShards(
+                        deltas.subList(start, Math.min(start + FLUSH_CHUNK_SIZE, deltas.size())), shardCount);
+            } catch (RuntimeException e) {
+                // Earlier chunks are committed; put the rest back so the next flush retries them
+                for (RoomCounterShard delta : deltas.subList(start, deltas.size())) {
+                    add(pendingViews, delta.getRoomId(), delta.getViews());
+                    add(pendingInquiries, delta.getRoomId(), delta.getInquiries());
+                }
+                log.warn("Failed to flush room counters for {} of {} rooms, will retry",
+                        deltas.size() - start, deltas.size(), e);
+                return;
+            }
+        }
+        log.debug("Flushed view/inquiry counters for {} rooms", deltas.size());
+    }
+
+    // ========================================
+    // PRIVATE HELPER METHODS
+    // ========================================
+
+    /**
+     * Lock-free increment. drain may remove the adder between the lookup and the add; the
+     * recheck moves whatever is stranded in a removed adder back into the live entry.
+     * Both sides take counts with sumThenReset, so each count is taken exactly once.
+     */
+    private void add(Map<String, LongAdder> pending, String roomId, long count) {
+        LongAdder adder = pending.computeIfAbsent(roomId, id -> new LongAdder());
+        adder.add(count);
+        while (pending.get(roomId) != adder) {
+            long stranded = adder.sumThenReset();
+            if (stranded == 0) {
+                return;
+            }
+            adder = pending.computeIfAbsent(roomId, id -> new LongAdder());
+            adder.add(stranded);
+        }
+    }
+
+    /**
+     * Take the buffered counts. A room idle since the last flush is removed, and the removed
+     * adder is read once more for increments that landed before their recheck in add.
+     */
+    private Map<String, Long> drain(Map<String, LongAdder> pending) {
+        Map<String, Long> drained = new HashMap<>();
+        pending.forEach((roomId, adder) -> {
+            long count = adder.sumThenReset();
+            if (count == 0 && pending.remove(roomId, adder)) {
+                count = adder.sumThenReset();
+            }
+            if (count != 0) {
+                drained.put(roomId, count);
+            }
+        });
+        return drained;
+    }
+
+    private long pending(Map<String, LongAdder> pending, String roomId) {
+        LongAdder adder = pending.get(roomId);
+        return adder != null ? adder.sum() : 0;
+    }
+}
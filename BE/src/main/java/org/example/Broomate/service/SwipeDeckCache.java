@@ -0,0 +1,102 @@
+package org.example.Broomate.service;
+
+import org.example.Broomate.event.SwipeRecordedEvent;
+import org.example.Broomate.event.TenantProfileChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Short-lived cache of each tenant's precomputed deck (ordered candidate tenant IDs).
+ * Profiles are resolved from the tenant directory when served, so only the tenant's own
+ * swipes and profile changes need to touch their entry. A deck that has been swiped down
+ * below the low-water mark is evicted so the next fetch rebuilds it with fresh candidates.
+ */
+@Component
+public class SwipeDeckCache {
+
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final int lowWaterMark;
+    private final Map<String, CachedDeck> decks = new ConcurrentHashMap<>();
+
+    public SwipeDeckCache(
+            @Value("${broomate.deck.cache-ttl-seconds:300}") long ttlSeconds,
+            @Value("${broomate.deck.cache-max-entries:10000}") int maxEntries,
+            @Value("${broomate.deck.cache-low-water-mark:5}") int lowWaterMark) {
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.maxEntries = maxEntries;
+        this.lowWaterMark = lowWaterMark;
+    }
+
+    public Optional<List<String>> get(String tenantId) {
+        CachedDeck deck = decks.get(tenantId);
+        if (deck == null) {
+            return Optional.empty();
+        }
+        // An empty deck is a miss: more candidates may exist beyond the cut the deck was built with
+        if (deck.isExpired(System.nanoTime()) || deck.candidateIds().isEmpty()) {
+            decks.remove(tenantId, deck);
+            return Optional.empty();
+        }
+        return Optional.of(deck.candidateIds());
+    }
+
+    public boolean isFresh(String tenantId) {
+        return get(tenantId).isPresent();
+    }
+
+    public void put(String tenantId, List<String> candidateIds) {
+        long now = System.nanoTime();
+        if (decks.size() >= maxEntries) {
+            decks.values().removeIf(deck -> deck.isExpired(now));
+        }
+        if (decks.size() < maxEntries || decks.containsKey(tenantId)) {
+            decks.put(tenantId, new CachedDeck(List.copyOf(candidateIds), now + ttlNanos));
+        }
+    }
+
+    public void invalidate(String tenantId) {
+        decks.remove(tenantId);
+    }
+
+    /**
+     * Drop the swiped tenant from the swiper's cached deck, evicting the deck once it runs low
+     */
+    @EventListener
+    public void onSwipeRecorded(SwipeRecordedEvent event) {
+        decks.computeIfPresent(event.getSwiperId(), (id, deck) -> {
+            CachedDeck remaining = deck.without(event.getTargetId());
+            boolean ranLow = remaining.candidateIds().size() < deck.candidateIds().size()
+                    && remaining.candidateIds().size() < lowWaterMark;
+            return ranLow ? null : remaining;
+        });
+    }
+
+    /**
+     * A tenant's own preferences changed, so their candidate order is stale
+     */
+    @EventListener
+    public void onTenantProfileChanged(TenantProfileChangedEvent event) {
+        invalidate(event.getTenantId());
+    }
+
+    private record CachedDeck(List<String> candidateIds, long expiresAtNanos) {
+
+        boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+
+        CachedDeck without(String tenantId) {
+            return new CachedDeck(
+                    candidateIds.stream().filter(id -> !id.equals(tenantId)).toList(),
+                    expiresAtNanos);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package org.example.Broomate.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * In-process token bucket rate limiter keyed by tenant ID.
+ *
+ * Implemented as GCRA (generic cell rate algorithm), which behaves exactly like a token
+ * bucket with capacity = burst and refill = refillPerSecond, but only needs a single
+ * "theoretical arrival time" per bucket. Each tenant has its own bucket; an acquire is a
+ * lock-free CAS loop on it. A bucket idle for the burst window is full again, so it expires
+ * then and a later request starts from a fresh (full) one without any cleanup job.
+ */
+@Slf4j
+@Component
+public class TenantRateLimiter {
+
+    // Tenant ID -> theoretical arrival time, relative to origin
+    private final Cache<String, AtomicLong> buckets;
+    private final long emissionIntervalNanos;   // Time to refill one token
+    private final long burstWindowNanos;        // Capacity expressed as time
+    private final LongSupplier nanoClock;
+    private final long origin;
+    private final int burst;
+
+    @Autowired
+    public TenantRateLimiter(
+            @Value("${broomate.ratelimit.tenant.burst:20}") int burst,
+            @Value("${broomate.ratelimit.tenant.refill-per-second:1.0}") double refillPerSecond,
+            @Value("${broomate.ratelimit.max-tenants:100000}") int maxTenants) {
+        this(burst, refillPerSecond, maxTenants, System::nanoTime);
+    }
+
+    public TenantRateLimiter(int burst, double refillPerSecond, int maxTenants, LongSupplier nanoClock) {
+        if (burst < 1 || refillPerSecond <= 0 || maxTenants < 1) {
+            throw new IllegalArgumentException("burst, refillPerSecond and maxTenants must be positive");
+        }
+
+        this.emissionIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / refillPerSecond);
+        this.burstWindowNanos = emissionIntervalNanos * burst;
+        this.nanoClock = nanoClock;
+        this.burst = burst;
+        // Keep "now" non-negative so a fresh bucket (0) always counts as full
+        this.origin = nanoClock.getAsLong() - burstWindowNanos;
+        // The size bound only matters past maxTenants active within one burst window
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxTenants)
+                .expireAfterAccess(burstWindowNanos, TimeUnit.NANOSECONDS)
+                .ticker(nanoClock::getAsLong)
+                .build();
+
+        log.info("Tenant rate limiter: burst={}, refill={}/s, maxTenants={}", burst, refillPerSecond, maxTenants);
+    }
+
+    /**
+     * Try to take permits from the key's bucket.
+     *
+     * @return 0 if the permits were granted, otherwise the nanoseconds until they would be
+     */
+    public long tryAcquire(String key, int permits) {
+        AtomicLong bucket = buckets.get(key, k -> new AtomicLong());
+        long cost = emissionIntervalNanos * permits;
+
+        while (true) {
+            long now = nanoClock.getAsLong() - origin;
+            long tat = bucket.get();
+            long newTat = Math.max(tat, now) + cost;
+            long excess = newTat - now - burstWindowNanos;
+
+            if (excess > 0) {
+                return excess;
+            }
+            if (bucket.compareAndSet(tat, newTat)) {
+                return 0;
+            }
+        }
+    }
+
+    public long tryAcquire(String key) {
+        return tryAcquire(key, 1);
+    }
+
+    /**
+     * Bucket capacity; a request needing more permits than this can never be granted
+     */
+    public int getBurst() {
+        return burst;
+    }
+}
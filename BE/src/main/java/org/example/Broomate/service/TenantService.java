@@ -7,12 +7,22 @@ import org.example.Broomate.dto.request.tenant.SwipeRequest;
 import org.example.Broomate.dto.request.tenant.UpdateTenantProfileRequest;
 import org.example.Broomate.dto.response.allAuthUser.ConversationDetailResponse;
 import org.example.Broomate.dto.response.tenant.*;
-import org.example.Broomate.dto.websocket.NewSwipeNotification;  // ✅ ADDED IMPORT
-import org.example.Broomate.dto.websocket.ThreeWayConversationNotification;
+import org.example.Broomate.event.ConversationCreatedEvent;
+import org.example.Broomate.event.MatchCreatedEvent;
+import org.example.Broomate.event.RoomBookmarkedEvent;
+import org.example.Broomate.event.RoomUnbookmarkedEvent;
+import org.example.Broomate.event.SwipeRecordedEvent;
+import org.example.Broomate.event.TenantProfileChangedEvent;
+import org.example.Broomate.index.BookmarkMatchIndex;
+import org.example.Broomate.index.BudgetMoveInIndex;
+import org.example.Broomate.index.DistrictIndex;
+import org.example.Broomate.index.PendingLikeIndex;
+import org.example.Broomate.index.SimilarTenantIndex;
+import org.example.Broomate.index.TenantDirectory;
 import org.example.Broomate.model.*;
-import org.example.Broomate.repository.AllAuthUserRepository;
 import org.example.Broomate.repository.TenantRepository;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.example.Broomate.util.PageCursor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
@@ -32,12 +42,22 @@ public class TenantService {
 
     private final TenantRepository tenantRepository;
     private final FileStorageService fileStorageService;
-    @Autowired
-    private WebSocketService webSocketService;
-    @Autowired
-    private AllAuthUserRepository allAuthUserRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TenantDirectory tenantDirectory;
+    private final DistrictIndex districtIndex;
+    private final BudgetMoveInIndex budgetMoveInIndex;
+    private final PendingLikeIndex pendingLikeIndex;
+    private final SwipeDeckCache swipeDeckCache;
+    private final SimilarTenantIndex similarTenantIndex;
+    private final RoomCache roomCache;
+    private final BookmarkMatchIndex bookmarkMatchIndex;
 
     private static final int REJECTION_COOLDOWN_MINUTES = 10;
+    private static final int MIN_DECK_CANDIDATES = 20;
+    private static final int DEFAULT_HISTORY_PAGE_SIZE = 20;
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+    private static final int DEFAULT_SIMILAR_LIMIT = 10;
+    private static final int MAX_SIMILAR_LIMIT = 50;
 
     // ========================================
     // BUSINESS LOGIC METHODS
@@ -50,58 +70,98 @@ public class TenantService {
     public TenantListResponse getAllTenantsForSwiping(String currentTenantId) {
         log.info("Getting all tenants for swiping. Current tenant ID: {}", currentTenantId);
 
-        // 1. Get all active tenants
-        List<Tenant> allTenants = tenantRepository.findAllActiveTenants();
+        // Served from the precomputed deck when one is cached (see warmUpDeck)
+        List<Tenant> availableTenants = findCachedDeck(currentTenantId)
+                .orElseGet(() -> buildDeck(currentTenantId));
 
-        // 2. Exclude current tenant
-        List<Tenant> otherTenants = allTenants.stream()
-                .filter(tenant -> !tenant.getId().equals(currentTenantId))
-                .toList();
+        // Convert to response DTOs
+        List<TenantProfileResponse> tenantResponses = availableTenants.stream()
+                .map(TenantProfileResponse::fromTenant)
+                .collect(Collectors.toList());
+
+        log.info("Found {} available tenants for swiping", tenantResponses.size());
+
+        return TenantListResponse.builder()
+                .tenants(tenantResponses)
+                .totalCount(tenantResponses.size())
+                .message("Tenants retrieved successfully")
+                .build();
+    }
+
+    /**
+     * Precompute and cache the tenant's deck unless a fresh one is already cached.
+     * Called in the background when a tenant session starts.
+     */
+    public void warmUpDeck(String tenantId) {
+        if (!tenantDirectory.isReady() || swipeDeckCache.isFresh(tenantId)) {
+            return;
+        }
+
+        List<Tenant> deck = buildDeck(tenantId);
+        log.info("Warmed up deck for tenant {} with {} candidates", tenantId, deck.size());
+    }
 
-        // 3. Get swipe history for current tenant
+    /**
+     * Build the deck from swipe history, matches and candidate indexes, and cache its order.
+     * Excludes: current tenant, already matched, recently rejected, already swiped
+     */
+    private List<Tenant> buildDeck(String currentTenantId) {
+        // 1. Get swipe history for current tenant
         List<Swipe> swipeHistory = tenantRepository.findSwipesBySwiperId(currentTenantId);
 
-        // 4. Calculate 10 minutes ago for rejection cooldown
+        // 2. Calculate 10 minutes ago for rejection cooldown
         Instant tenMinutesAgo = Instant.now().minus(REJECTION_COOLDOWN_MINUTES, ChronoUnit.MINUTES);
 
-        // 5. Get IDs of recently rejected tenants (within last 10 minutes)
+        // 3. Get IDs of recently rejected tenants (within last 10 minutes)
         Set<String> recentlyRejectedIds = swipeHistory.stream()
                 .filter(swipe -> false)
                 .filter(swipe -> swipe.getCreatedAt().toDate().toInstant().isAfter(tenMinutesAgo))
                 .map(Swipe::getTargetId)
                 .collect(Collectors.toSet());
 
-        // 6. Get IDs of all swiped tenants (don't show again)
+        // 4. Get IDs of all swiped tenants (don't show again)
         Set<String> allSwipedIds = swipeHistory.stream()
                 .map(Swipe::getTargetId)
                 .collect(Collectors.toSet());
 
-        // 7. Get matched tenant IDs
+        // 5. Get matched tenant IDs
         List<Match> matches = tenantRepository.findActiveMatchesByTenantId(currentTenantId);
         Set<String> matchedTenantIds = matches.stream()
                 .map(match -> match.getTenant1Id().equals(currentTenantId) ?
                         match.getTenant2Id() : match.getTenant1Id())
                 .collect(Collectors.toSet());
 
-        // 8. Filter available tenants
-        List<Tenant> availableTenants = otherTenants.stream()
-                .filter(tenant -> !recentlyRejectedIds.contains(tenant.getId()))
-                .filter(tenant -> !matchedTenantIds.contains(tenant.getId()))
-                .filter(tenant -> !allSwipedIds.contains(tenant.getId()))
-                .collect(Collectors.toList());
+        // 6. Get available tenants (excluding current tenant), same-district tenants first
+        Set<String> excludedIds = new HashSet<>(allSwipedIds);
+        excludedIds.addAll(recentlyRejectedIds);
+        excludedIds.addAll(matchedTenantIds);
+        excludedIds.add(currentTenantId);
 
-        // 9. Convert to response DTOs
-        List<TenantProfileResponse> tenantResponses = availableTenants.stream()
-                .map(TenantProfileResponse::fromTenant)
-                .collect(Collectors.toList());
+        List<Tenant> availableTenants = findDeckCandidates(currentTenantId, excludedIds);
 
-        log.info("Found {} available tenants for swiping", tenantResponses.size());
+        // 7. Cache the order; profiles are re-read from the directory when served
+        if (tenantDirectory.isReady()) {
+            swipeDeckCache.put(currentTenantId, availableTenants.stream()
+                    .map(Tenant::getId)
+                    .toList());
+        }
 
-        return TenantListResponse.builder()
-                .tenants(tenantResponses)
-                .totalCount(tenantResponses.size())
-                .message("Tenants retrieved successfully")
-                .build();
+        return availableTenants;
+    }
+
+    private Optional<List<Tenant>> findCachedDeck(String currentTenantId) {
+        if (!tenantDirectory.isReady()) {
+            return Optional.empty();
+        }
+
+        return swipeDeckCache.get(currentTenantId)
+                .map(candidateIds -> candidateIds.stream()
+                        .map(tenantDirectory::findById)
+                        .flatMap(Optional::stream)
+                        .filter(Tenant::isActive)
+                        .collect(Collectors.toList()))
+                // Every cached candidate went inactive; rebuild rather than serve an empty deck
+                .filter(deck -> !deck.isEmpty());
     }
 
     /**
@@ -185,6 +245,11 @@ public class TenantService {
             // 4. Save updated tenant
             Tenant updatedTenant = tenantRepository.update(tenantId, tenant);
 
+            eventPublisher.publishEvent(TenantProfileChangedEvent.builder()
+                    .tenantId(tenantId)
+                    .tenant(updatedTenant)
+                    .build());
+
             log.info("Tenant profile updated successfully for ID: {}", tenantId);
 
             return TenantProfileResponse.fromTenant(updatedTenant);
@@ -253,125 +318,441 @@ public class TenantService {
 
         log.info("Swipe recorded successfully");
 
-        // 5. Handle REJECT action
-        if (Swipe.SwipeActionEnum.REJECT.equals(request.getSwipeAction())) {
-            return SwipeResponse.fromSwipe(
-                    swipe,
-                    false,
-                    null,
-                    "Swiped left. This profile will be hidden for 10 minutes."
-            );
+        // Check for a mutual like before the index records this swipe as an answer
+        boolean mutualLike = Swipe.SwipeActionEnum.ACCEPT.equals(request.getSwipeAction())
+                && isMutualLike(swiperTenantId, request.getTargetTenantId());
+
+        publishSwipeRecorded(swipe);
+
+        // 5. REJECT, or ACCEPT without a mutual like yet
+        if (!mutualLike) {
+            return unmatchedResponse(swipe);
         }
 
-        // ✅ 6. SEND NOTIFICATION: User A swiped right on User B
-        Tenant swiperTenant = tenantRepository.findById(swiperTenantId).orElse(null);
-        if (swiperTenant != null) {
-            NewSwipeNotification swipeNotification = NewSwipeNotification.builder()
-                    .swipeId(swipe.getId())
+        // 6. MUTUAL MATCH FOUND! Create match and conversation
+        log.info("Match found between {} and {}", swiperTenantId, request.getTargetTenantId());
+
+        return createMatchAndConversation(swiperTenantId, targetTenant, swipe);
+    }
+
+    /**
+     * Record a batch of swipes queued on the client, in request order.
+     * Targets are validated with one batched read, all swipes, matches and conversations are
+     * written in one commit, and invalid items are reported per item instead of failing the batch.
+     */
+    public BatchSwipeResponse swipeTenants(String swiperTenantId, List<SwipeRequest> requests) {
+        log.info("Tenant {} submitting a batch of {} swipes", swiperTenantId, requests.size());
+
+        // 1. Load all targets at once, plus the swiper's existing swipes on them
+        Set<String> targetIds = requests.stream()
+                .map(SwipeRequest::getTargetTenantId)
+                .filter(id -> !swiperTenantId.equals(id))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<String, Tenant> targets = tenantRepository.findByIds(targetIds);
+
+        Set<String> alreadySwipedIds = tenantRepository.findSwipesBySwiperAndTargets(swiperTenantId, targets.keySet())
+                .stream()
+                .map(Swipe::getTargetId)
+                .collect(Collectors.toSet());
+
+        // 2. Targets that already liked the swiper, resolved in bulk
+        Set<String> acceptedTargetIds = requests.stream()
+                .filter(request -> Swipe.SwipeActionEnum.ACCEPT.equals(request.getSwipeAction()))
+                .map(SwipeRequest::getTargetTenantId)
+                .filter(targets::containsKey)
+                .collect(Collectors.toSet());
+        Set<String> likedByIds = findMutualLikes(swiperTenantId, acceptedTargetIds);
+
+        // 3. Validate and build every item in request order
+        List<SwipeResponse> results = new ArrayList<>(requests.size());
+        List<Swipe> swipes = new ArrayList<>();
+        List<Match> matches = new ArrayList<>();
+        List<Conversation> conversations = new ArrayList<>();
+        Map<String, Swipe> swipesByTarget = new HashMap<>();
+
+        for (SwipeRequest request : requests) {
+            String targetId = request.getTargetTenantId();
+
+            if (swiperTenantId.equals(targetId)) {
+                results.add(SwipeResponse.notRecorded(request, "Cannot swipe on yourself"));
+                continue;
+            }
+            if (!targets.containsKey(targetId)) {
+                results.add(SwipeResponse.notRecorded(request, "Target tenant not found with ID: " + targetId));
+                continue;
+            }
+            if (alreadySwipedIds.contains(targetId) || swipesByTarget.containsKey(targetId)) {
+                results.add(SwipeResponse.notRecorded(request, "You have already swiped on this tenant"));
+                continue;
+            }
+
+            Swipe swipe = Swipe.builder()
+                    .id(UUID.randomUUID().toString())
                     .swiperId(swiperTenantId)
-                    .swiperName(swiperTenant.getName())
-                    .swiperAvatar(swiperTenant.getAvatarUrl())
-                    .isMatch(false) // Not a match yet
+                    .targetId(targetId)
+                    .action(request.getSwipeAction())
+                    .createdAt(Timestamp.now())
+                    .updatedAt(Timestamp.now())
                     .build();
-            
-            webSocketService.sendNewSwipeNotification(request.getTargetTenantId(), swipeNotification);
-            log.info("✅ Sent swipe notification from {} to {}", swiperTenantId, request.getTargetTenantId());
+            swipes.add(swipe);
+            swipesByTarget.put(targetId, swipe);
+
+            if (Swipe.SwipeActionEnum.ACCEPT.equals(swipe.getAction()) && likedByIds.contains(targetId)) {
+                Conversation conversation = newMatchConversation(swiperTenantId, targetId);
+                Match match = newMatch(swiperTenantId, targetId, conversation.getId());
+                conversations.add(conversation);
+                matches.add(match);
+                results.add(matchedResponse(swipe, match, targets.get(targetId)));
+            } else {
+                results.add(unmatchedResponse(swipe));
+            }
         }
 
-        // 7. Handle ACCEPT action - check for mutual match
-        Optional<Swipe> mutualSwipe = tenantRepository.findSwipe(
-                request.getTargetTenantId(), swiperTenantId);
+        // 4. Single commit for swipes, matches, conversations and counters
+        if (!swipes.isEmpty()) {
+            tenantRepository.saveSwipeBatch(swiperTenantId, swipes, matches, conversations);
+        }
 
-        // 8. No mutual match yet
-        if (mutualSwipe.isEmpty() || !Swipe.SwipeActionEnum.ACCEPT.equals(mutualSwipe.get().getAction())) {
-            return SwipeResponse.fromSwipe(
-                    swipe,
-                    false,
-                    null,
-                    "Swiped right! Waiting for the other tenant to swipe back."
+        // 5. Publish events only after the commit succeeded
+        swipes.forEach(this::publishSwipeRecorded);
+        for (int i = 0; i < matches.size(); i++) {
+            Match match = matches.get(i);
+            publishMatchCreated(match, conversations.get(i),
+                    swipesByTarget.get(match.getTenant2Id()), targets.get(match.getTenant2Id()));
+        }
+
+        log.info("Batch recorded {} of {} swipes, {} matches",
+                swipes.size(), requests.size(), matches.size());
+
+        return BatchSwipeResponse.builder()
+                .results(results)
+                .recordedCount(swipes.size())
+                .matchCount(matches.size())
+                .message("Batch processed successfully")
+                .build();
+    }
+
+    // ========================================
+    // SIMILAR TENANTS
+    // ========================================
+    /**
+     * Get the active tenants whose profiles are closest to the given tenant's (nearest neighbours via LSH)
+     */
+    public TenantListResponse getSimilarTenants(String tenantId, Integer limit) {
+        log.info("Getting tenants similar to: {}", tenantId);
+
+        if (!tenantDirectory.isReady()) {
+            throw new ResponseStatusException(
+                    HttpStatus.SERVICE_UNAVAILABLE,
+                    "Similar tenants are not available yet, please try again shortly"
             );
         }
 
-        // 9. MUTUAL MATCH FOUND! Create match and conversation
-        log.info("Match found between {} and {}", swiperTenantId, request.getTargetTenantId());
+        int ordinal = tenantDirectory.ordinalOf(tenantId);
+        if (ordinal < 0) {
+            throw new ResponseStatusException(
+                    HttpStatus.NOT_FOUND,
+                    "Tenant not found with ID: " + tenantId
+            );
+        }
 
-        return createMatchAndConversation(swiperTenantId, targetTenant, swipe);
+        int size = limit == null ? DEFAULT_SIMILAR_LIMIT : Math.max(1, Math.min(limit, MAX_SIMILAR_LIMIT));
+        List<TenantProfileResponse> similar = similarTenantIndex.findSimilar(ordinal, size).stream()
+                .map(tenantDirectory::tenantAt)
+                .filter(Objects::nonNull)
+                .map(TenantProfileResponse::fromTenant)
+                .collect(Collectors.toList());
+
+        return TenantListResponse.builder()
+                .tenants(similar)
+                .totalCount(similar.size())
+                .message("Similar tenants retrieved successfully")
+                .build();
+    }
+
+    // ========================================
+    // WHO LIKED ME
+    // ========================================
+    /**
+     * Get tenants who swiped right on this tenant and are still waiting for a swipe back
+     */
+    public TenantListResponse getPendingLikes(String tenantId) {
+        log.info("Getting pending likes for tenant: {}", tenantId);
+
+        Set<String> likerIds;
+        if (pendingLikeIndex.isReady()) {
+            likerIds = pendingLikeIndex.findLikers(tenantId);
+        } else {
+            Set<String> answeredIds = tenantRepository.findSwipesBySwiperId(tenantId).stream()
+                    .map(Swipe::getTargetId)
+                    .collect(Collectors.toSet());
+            likerIds = tenantRepository.findAcceptedSwipesByTargetId(tenantId).stream()
+                    .map(Swipe::getSwiperId)
+                    .filter(id -> !answeredIds.contains(id))
+                    .collect(Collectors.toSet());
+        }
+
+        List<TenantProfileResponse> likers = likerIds.stream()
+                .map(id -> tenantDirectory.findById(id).or(() -> tenantRepository.findById(id)))
+                .flatMap(Optional::stream)
+                .filter(Tenant::isActive)
+                .map(TenantProfileResponse::fromTenant)
+                .collect(Collectors.toList());
+
+        return TenantListResponse.builder()
+                .tenants(likers)
+                .totalCount(likers.size())
+                .message("Pending likes retrieved successfully")
+                .build();
+    }
+
+    // ========================================
+    // MATCH STATS
+    // ========================================
+    /**
+     * Get swipe/match statistics for a tenant.
+     * Served from the per-tenant counter document; counters are seeded once from history.
+     */
+    public MatchStatsResponse getMatchStats(String tenantId) {
+        log.info("Getting match stats for tenant: {}", tenantId);
+
+        TenantStats stats = tenantRepository.findStats(tenantId)
+                .filter(TenantStats::isBackfilled)
+                .orElseGet(() -> tenantRepository.backfillStats(tenantId));
+
+        return MatchStatsResponse.fromStats(stats, stats.getFirstSwipeAt());
+    }
+
+    // ========================================
+    // SWIPE HISTORY
+    // ========================================
+    /**
+     * Get one page of the tenant's swipe history, newest first.
+     * Only `size + 1` swipes are read per call; totals come from the stats counters.
+     */
+    public SwipeHistoryResponse getSwipeHistory(
+            String tenantId,
+            Swipe.SwipeActionEnum action,
+            String cursor,
+            Integer size) {
+
+        int pageSize = size == null ? DEFAULT_HISTORY_PAGE_SIZE : Math.max(1, Math.min(size, MAX_HISTORY_PAGE_SIZE));
+        PageCursor after = PageCursor.decode(cursor);
+        int currentPage = after != null ? after.getPage() : 0;
+
+        log.info("Getting swipe history for tenant {} (action: {}, page: {}, size: {})",
+                tenantId, action, currentPage, pageSize);
+
+        // Fetch one extra swipe to know whether another page exists
+        List<Swipe> swipes = tenantRepository.findSwipesPage(tenantId, action, after, pageSize + 1);
+        boolean hasMore = swipes.size() > pageSize;
+        if (hasMore) {
+            swipes = swipes.subList(0, pageSize);
+        }
+
+        String nextCursor = null;
+        if (hasMore) {
+            Swipe last = swipes.get(swipes.size() - 1);
+            nextCursor = new PageCursor(last.getCreatedAt(), last.getId(), currentPage + 1).encode();
+        }
+
+        TenantStats stats = tenantRepository.findStats(tenantId)
+                .filter(TenantStats::isBackfilled)
+                .orElseGet(() -> tenantRepository.backfillStats(tenantId));
+        Long counted = action == null ? stats.getTotalSwipes()
+                : Swipe.SwipeActionEnum.ACCEPT.equals(action) ? stats.getRightSwipes()
+                : stats.getLeftSwipes();
+        long totalElements = counted != null ? counted : 0L;
+
+        return SwipeHistoryResponse.builder()
+                .swipes(swipes.stream()
+                        .map(SwipeResponse::fromSwipeHistory)
+                        .collect(Collectors.toList()))
+                .totalElements(totalElements)
+                .totalPages((int) ((totalElements + pageSize - 1) / pageSize))
+                .currentPage(currentPage)
+                .pageSize(pageSize)
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .build();
     }
 
     // ========================================
     // PRIVATE HELPER METHODS
     // ========================================
+
+    /**
+     * Whether the target already swiped right on the swiper.
+     * Answered from the in-memory pending like index once it is built.
+     */
+    private boolean isMutualLike(String swiperTenantId, String targetTenantId) {
+        if (pendingLikeIndex.isReady()) {
+            return pendingLikeIndex.hasPendingLike(swiperTenantId, targetTenantId);
+        }
+
+        return tenantRepository.findSwipe(targetTenantId, swiperTenantId)
+                .map(mutualSwipe -> Swipe.SwipeActionEnum.ACCEPT.equals(mutualSwipe.getAction()))
+                .orElse(false);
+    }
+
+    private BitSet similarTo(String tenantId, int limit) {
+        BitSet similar = new BitSet();
+        int ordinal = tenantDirectory.ordinalOf(tenantId);
+        if (ordinal >= 0) {
+            similarTenantIndex.findSimilar(ordinal, limit).forEach(similar::set);
+        }
+        return similar;
+    }
+
+    /**
+     * Which of the given targets already swiped right on the swiper.
+     * One index lookup per target, or one Firestore query per 30 targets as a fallback.
+     */
+    private Set<String> findMutualLikes(String swiperTenantId, Set<String> targetTenantIds) {
+        if (targetTenantIds.isEmpty()) {
+            return Set.of();
+        }
+
+        if (pendingLikeIndex.isReady()) {
+            return targetTenantIds.stream()
+                    .filter(targetId -> pendingLikeIndex.hasPendingLike(swiperTenantId, targetId))
+                    .collect(Collectors.toSet());
+        }
+
+        return tenantRepository.findSwipesBySwipersAndTarget(targetTenantIds, swiperTenantId).stream()
+                .filter(swipe -> Swipe.SwipeActionEnum.ACCEPT.equals(swipe.getAction()))
+                .map(Swipe::getSwiperId)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Candidate tenants for the deck, minus the excluded IDs.
+     * With the in-memory directory loaded, candidates are taken tier by tier until the minimum
+     * deck size is reached: same district with similar budget/move-in date, same district,
+     * similar budget/move-in date, nearest neighbours by profile, then everyone else.
+     */
+    private List<Tenant> findDeckCandidates(String currentTenantId, Set<String> excludedIds) {
+        if (!tenantDirectory.isReady()) {
+            return tenantRepository.findAllActiveTenants().stream()
+                    .filter(tenant -> !excludedIds.contains(tenant.getId()))
+                    .collect(Collectors.toList());
+        }
+
+        BitSet remaining = tenantDirectory.activeOrdinals();
+        for (String excludedId : excludedIds) {
+            int ordinal = tenantDirectory.ordinalOf(excludedId);
+            if (ordinal >= 0) {
+                remaining.clear(ordinal);
+            }
+        }
+
+        Tenant me = tenantDirectory.findById(currentTenantId).orElse(null);
+        BitSet sameDistrict = districtIndex.tenantsSharingAny(me != null ? me.getPreferredDistricts() : null);
+        BitSet compatible = me != null ? budgetMoveInIndex.compatibleWith(me) : null;
+
+        List<BitSet> tiers = new ArrayList<>();
+        if (compatible != null) {
+            BitSet sameDistrictCompatible = (BitSet) sameDistrict.clone();
+            sameDistrictCompatible.and(compatible);
+            tiers.add(sameDistrictCompatible);
+        }
+        tiers.add(sameDistrict);
+        if (compatible != null) {
+            tiers.add(compatible);
+        }
+        tiers.add(similarTo(currentTenantId, MIN_DECK_CANDIDATES));
+        tiers.add(remaining);
+
+        List<Tenant> candidates = new ArrayList<>();
+        for (BitSet tier : tiers) {
+            BitSet take = (BitSet) tier.clone();
+            take.and(remaining);
+            candidates.addAll(tenantDirectory.tenantsAt(take));
+            remaining.andNot(take);
+
+            if (candidates.size() >= MIN_DECK_CANDIDATES) {
+                break;
+            }
+        }
+
+        return candidates;
+    }
     private SwipeResponse createMatchAndConversation(String currentTenantId, Tenant targetTenant, Swipe swipe) {
-        // Create conversation
-        String conversationId = UUID.randomUUID().toString();
-        Conversation conversation = Conversation.builder()
-                .id(conversationId)
-                .participantIds(List.of(currentTenantId, targetTenant.getId()))
+        Conversation conversation = newMatchConversation(currentTenantId, targetTenant.getId());
+        Match match = newMatch(currentTenantId, targetTenant.getId(), conversation.getId());
+
+        // Conversation, match and both tenants' match counters are written in one commit
+        tenantRepository.saveMatchWithConversation(match, conversation);
+
+        publishMatchCreated(match, conversation, swipe, targetTenant);
+
+        log.info("Match and conversation created successfully");
+
+        return matchedResponse(swipe, match, targetTenant);
+    }
+
+    private Conversation newMatchConversation(String currentTenantId, String targetTenantId) {
+        return Conversation.builder()
+                .id(UUID.randomUUID().toString())
+                .participantIds(List.of(currentTenantId, targetTenantId))
                 .lastMessage(null)
                 .lastMessageAt(null)
                 .createdAt(Timestamp.now())
                 .updatedAt(Timestamp.now())
                 .build();
+    }
 
-        tenantRepository.saveConversation(conversation);
-
-        // Create match
-        String matchId = UUID.randomUUID().toString();
-        Match match = Match.builder()
-                .id(matchId)
+    private Match newMatch(String currentTenantId, String targetTenantId, String conversationId) {
+        return Match.builder()
+                .id(UUID.randomUUID().toString())
                 .tenant1Id(currentTenantId)
-                .tenant2Id(targetTenant.getId())
+                .tenant2Id(targetTenantId)
                 .conversationId(conversationId)
                 .status(Match.MatchStatusEnum.ACTIVE)
                 .createdAt(Timestamp.now())
                 .updatedAt(Timestamp.now())
                 .build();
+    }
 
-        tenantRepository.saveMatch(match);
-
-        // ✅ GET CURRENT TENANT INFO FOR NOTIFICATIONS
-        Tenant currentTenant = tenantRepository.findById(currentTenantId).orElse(null);
-
-        // ✅ SEND MATCH NOTIFICATION TO CURRENT TENANT
-        if (currentTenant != null) {
-            NewSwipeNotification matchNotification1 = NewSwipeNotification.builder()
-                    .swipeId(swipe.getId())
-                    .swiperId(targetTenant.getId())
-                    .swiperName(targetTenant.getName())
-                    .swiperAvatar(targetTenant.getAvatarUrl())
-                    .isMatch(true)
-                    .conversationId(conversationId)
-                    .build();
-            
-            webSocketService.sendNewSwipeNotification(currentTenantId, matchNotification1);
-            log.info("✅ Sent match notification to current tenant: {}", currentTenantId);
-        }
+    private void publishMatchCreated(Match match, Conversation conversation, Swipe swipe, Tenant targetTenant) {
+        eventPublisher.publishEvent(ConversationCreatedEvent.builder()
+                .conversationId(conversation.getId())
+                .participantIds(conversation.getParticipantIds())
+                .build());
 
-        // ✅ SEND MATCH NOTIFICATION TO TARGET TENANT
-        NewSwipeNotification matchNotification2 = NewSwipeNotification.builder()
+        // Match notifications for both tenants are sent asynchronously
+        eventPublisher.publishEvent(MatchCreatedEvent.builder()
+                .matchId(match.getId())
                 .swipeId(swipe.getId())
-                .swiperId(currentTenantId)
-                .swiperName(currentTenant != null ? currentTenant.getName() : "Unknown")
-                .swiperAvatar(currentTenant != null ? currentTenant.getAvatarUrl() : null)
-                .isMatch(true)
-                .conversationId(conversationId)
-                .build();
+                .conversationId(conversation.getId())
+                .initiatorId(match.getTenant1Id())
+                .targetId(targetTenant.getId())
+                .targetName(targetTenant.getName())
+                .targetAvatar(targetTenant.getAvatarUrl())
+                .build());
+    }
 
-        webSocketService.sendNewSwipeNotification(targetTenant.getId(), matchNotification2);
-        log.info("✅ Sent match notification to target tenant: {}", targetTenant.getId());
+    private void publishSwipeRecorded(Swipe swipe) {
+        // Notifications are sent asynchronously by NotificationEventListener
+        eventPublisher.publishEvent(SwipeRecordedEvent.builder()
+                .swipeId(swipe.getId())
+                .swiperId(swipe.getSwiperId())
+                .targetId(swipe.getTargetId())
+                .action(swipe.getAction())
+                .createdAt(swipe.getCreatedAt())
+                .build());
+    }
 
-        // Build match DTO for response
+    private SwipeResponse matchedResponse(Swipe swipe, Match match, Tenant targetTenant) {
         MatchResponse matchResponse = MatchResponse.builder()
-                .matchId(matchId)
-                .conversationId(conversationId)
+                .matchId(match.getId())
+                .conversationId(match.getConversationId())
                 .otherTenantId(targetTenant.getId())
                 .otherTenantName(targetTenant.getName())
                 .otherTenantAvatar(targetTenant.getAvatarUrl())
                 .matchedAt(Timestamp.now().toString())
                 .build();
 
-        log.info("Match and conversation created successfully");
-
         return SwipeResponse.fromSwipe(
                 swipe,
                 true,
@@ -380,6 +761,24 @@ public class TenantService {
         );
     }
 
+    private SwipeResponse unmatchedResponse(Swipe swipe) {
+        if (Swipe.SwipeActionEnum.REJECT.equals(swipe.getAction())) {
+            return SwipeResponse.fromSwipe(
+                    swipe,
+                    false,
+                    null,
+                    "Swiped left. This profile will be hidden for 10 minutes."
+            );
+        }
+
+        return SwipeResponse.fromSwipe(
+                swipe,
+                false,
+                null,
+                "Swiped right! Waiting for the other tenant to swipe back."
+        );
+    }
+
     // ========================================
     // BOOKMARK ROOM (WITH 3-WAY CONVERSATION LOGIC)
     // ========================================
@@ -387,14 +786,15 @@ public class TenantService {
         log.info("Bookmarking room {} for tenant {}", roomId, tenantId);
 
         // 1. Check if tenant exists
-        Tenant tenant = tenantRepository.findById(tenantId)
+        Tenant tenant = tenantDirectory.findById(tenantId)
+                .or(() -> tenantRepository.findById(tenantId))
                 .orElseThrow(() -> new ResponseStatusException(
                         HttpStatus.NOT_FOUND,
                         "Tenant not found with ID: " + tenantId
                 ));
 
         // 2. Check if room exists
-        Room room = tenantRepository.findRoomById(roomId)
+        Room room = roomCache.findById(roomId)
                 .orElseThrow(() -> new ResponseStatusException(
                         HttpStatus.NOT_FOUND,
                         "Room not found with ID: " + roomId
@@ -424,50 +824,74 @@ public class TenantService {
         log.info("Room bookmarked successfully: {}", roomId);
 
         // ✅ 6. CHECK FOR 3-WAY CONVERSATION LOGIC
-        // Find all bookmarks for this room (excluding current tenant)
-        List<Bookmark> roomBookmarks = tenantRepository.findBookmarksByRoomId(roomId)
-                .stream()
-                .filter(b -> !b.getTenantId().equals(tenantId))
-                .collect(Collectors.toList());
+        // A tenant matched with the current tenant who also bookmarked this room
+        Optional<String> matchedBookmarker = findMatchedBookmarker(roomId, tenantId);
+
+        if (matchedBookmarker.isPresent()) {
+            String otherTenantId = matchedBookmarker.get();
+            log.info("Found matched tenant {} who also bookmarked room {}", otherTenantId, roomId);
+
+            // ✅ Create 3-way conversation
+            ConversationDetailResponse threeWayConversation = createThreeWayConversation(
+                    tenantId,
+                    otherTenantId,
+                    room.getLandlordId(),
+                    roomId
+            );
 
-        log.info("Found {} other bookmarks for room {}", roomBookmarks.size(), roomId);
+            // Get matched tenant info
+            Tenant matchedTenant = tenantDirectory.findById(otherTenantId)
+                    .or(() -> tenantRepository.findById(otherTenantId))
+                    .orElse(null);
+            String matchedTenantName = matchedTenant != null ? matchedTenant.getName() : "Unknown Tenant";
 
-        // 7. Check if any bookmarked tenant is matched with current tenant
-        for (Bookmark otherBookmark : roomBookmarks) {
-            String otherTenantId = otherBookmark.getTenantId();
+            publishRoomBookmarked(savedBookmark, room, threeWayConversation.getId());
 
-            // Check if they are matched
-            boolean areMatched = tenantRepository.areTenantsMatched(tenantId, otherTenantId);
-
-            if (areMatched) {
-                log.info("Found matched tenant {} who also bookmarked room {}", otherTenantId, roomId);
-
-                // ✅ Create 3-way conversation
-                ConversationDetailResponse threeWayConversation = createThreeWayConversation(
-                        tenantId,
-                        otherTenantId,
-                        room.getLandlordId(),
-                        roomId
-                );
-
-                // Get matched tenant info
-                Tenant matchedTenant = tenantRepository.findById(otherTenantId).orElse(null);
-                String matchedTenantName = matchedTenant != null ? matchedTenant.getName() : "Unknown Tenant";
-
-                // Return response with 3-way conversation details
-                return BookmarkResponse.fromBookmarkWithThreeWayConversation(
-                        savedBookmark,
-                        threeWayConversation,
-                        otherTenantId,
-                        matchedTenantName
-                );
-            }
+            // Return response with 3-way conversation details
+            return BookmarkResponse.fromBookmarkWithThreeWayConversation(
+                    savedBookmark,
+                    threeWayConversation,
+                    otherTenantId,
+                    matchedTenantName
+            );
         }
 
         // No 3-way conversation created
+        publishRoomBookmarked(savedBookmark, room, null);
         return BookmarkResponse.fromBookmark(savedBookmark);
     }
 
+    /**
+     * Set intersection in the bookmark/match index; until it is built, check each
+     * other bookmarker against Firestore
+     */
+    private Optional<String> findMatchedBookmarker(String roomId, String tenantId) {
+        if (bookmarkMatchIndex.isReady()) {
+            return bookmarkMatchIndex.findMatchedBookmarker(roomId, tenantId);
+        }
+
+        List<Bookmark> roomBookmarks = tenantRepository.findBookmarksByRoomId(roomId);
+        log.info("Found {} bookmarks for room {}", roomBookmarks.size(), roomId);
+
+        for (Bookmark otherBookmark : roomBookmarks) {
+            String otherTenantId = otherBookmark.getTenantId();
+            if (!otherTenantId.equals(tenantId) && tenantRepository.areTenantsMatched(tenantId, otherTenantId)) {
+                return Optional.of(otherTenantId);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private void publishRoomBookmarked(Bookmark bookmark, Room room, String threeWayConversationId) {
+        eventPublisher.publishEvent(RoomBookmarkedEvent.builder()
+                .bookmarkId(bookmark.getId())
+                .tenantId(bookmark.getTenantId())
+                .roomId(bookmark.getRoomId())
+                .landlordId(room.getLandlordId())
+                .threeWayConversationId(threeWayConversationId)
+                .build());
+    }
+
     // ========================================
     // PRIVATE HELPER: CREATE 3-WAY CONVERSATION
     // ========================================
@@ -519,54 +943,12 @@ public class TenantService {
 
         log.info("3-way conversation created successfully: {}", conversationId);
 
-        // ✅ Get room details for notification
-        Room room = tenantRepository.findRoomById(roomId).orElse(null);
-        String roomTitle = room != null ? room.getTitle() : "a room";
-        String roomImageUrl = room != null && room.getImageUrls() != null && !room.getImageUrls().isEmpty()
-                ? room.getImageUrls().get(0) : null;
-
-        // ✅ Get participant details
-        List<ThreeWayConversationNotification.ParticipantInfo> participants = new ArrayList<>();
-
-        // Tenant 1
-        Tenant tenant1 = tenantRepository.findById(tenant1Id).orElse(null);
-        if (tenant1 != null) {
-            participants.add(ThreeWayConversationNotification.ParticipantInfo.builder()
-                    .userId(tenant1Id)
-                    .name(tenant1.getName())
-                    .avatarUrl(tenant1.getAvatarUrl())
-                    .role("TENANT")
-                    .build());
-        }
-
-        // Tenant 2
-        Tenant tenant2 = tenantRepository.findById(tenant2Id).orElse(null);
-        if (tenant2 != null) {
-            participants.add(ThreeWayConversationNotification.ParticipantInfo.builder()
-                    .userId(tenant2Id)
-                    .name(tenant2.getName())
-                    .avatarUrl(tenant2.getAvatarUrl())
-                    .role("TENANT")
-                    .build());
-        }
-
-        // Landlord
-        allAuthUserRepository.findAccountById(landlordId).ifPresent(landlord -> participants.add(ThreeWayConversationNotification.ParticipantInfo.builder()
-                .userId(landlordId)
-                .name(landlord.getName())
-                .avatarUrl(landlord.getAvatarUrl())
-                .role("LANDLORD")
-                .build()));
-
-        // ✅ Send WebSocket notifications to all 3 participants
-        webSocketService.sendThreeWayConversationNotification(
-                conversationId,
-                roomId,
-                roomTitle,
-                roomImageUrl,
-                participantIds,
-                participants
-        );
+        // Room and participant details for the notification are loaded asynchronously
+        eventPublisher.publishEvent(ConversationCreatedEvent.builder()
+                .conversationId(conversationId)
+                .participantIds(participantIds)
+                .roomId(roomId)
+                .build());
 
         // Return conversation details
         return ConversationDetailResponse.builder()
@@ -599,6 +981,10 @@ public class TenantService {
 
         // 3. Delete bookmark
         tenantRepository.deleteBookmark(bookmark.getId());
+        eventPublisher.publishEvent(RoomUnbookmarkedEvent.builder()
+                .tenantId(tenantId)
+                .roomId(roomId)
+                .build());
 
         log.info("Room unbookmarked successfully: {}", roomId);
     }
@@ -624,7 +1010,7 @@ public class TenantService {
 
         for (Bookmark bookmark : bookmarks) {
             try {
-                Optional<Room> roomOpt = tenantRepository.findRoomById(bookmark.getRoomId());
+                Optional<Room> roomOpt = roomCache.findById(bookmark.getRoomId());
 
                 if (roomOpt.isPresent()) {
                     Room room = roomOpt.get();
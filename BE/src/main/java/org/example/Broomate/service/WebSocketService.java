@@ -1,14 +1,23 @@
 package org.example.Broomate.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.cloud.Timestamp;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.Broomate.dto.websocket.NewMessageNotification;
 import org.example.Broomate.dto.websocket.NewSwipeNotification;
+import org.example.Broomate.dto.websocket.ReadReceiptNotification;
 import org.example.Broomate.dto.websocket.ThreeWayConversationNotification;
+import org.example.Broomate.dto.websocket.TypingNotification;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Service;
+import org.springframework.util.MimeTypeUtils;
 
 import java.util.List;
 
@@ -19,6 +28,7 @@ public class WebSocketService {
 
     private final SimpMessagingTemplate messagingTemplate;
     private final SimpUserRegistry userRegistry;
+    private final ObjectMapper objectMapper;
 
     /**
      * Send new message notification to a specific user
@@ -51,6 +61,34 @@ public class WebSocketService {
         }
     }
 
+    /**
+     * Send new message notification to every recipient of an N-party conversation
+     */
+    public void sendNewMessageNotificationToAll(List<String> recipientIds, NewMessageNotification notification) {
+        notification.setType("NEW_MESSAGE");
+        int delivered = sendToAll(recipientIds, "/queue/messages", notification);
+        log.info("✅ Message {} fanned out to {}/{} recipients",
+                notification.getMessageId(), delivered, recipientIds.size());
+    }
+
+    /**
+     * Send read receipt to the other participants of a conversation
+     */
+    public void sendReadReceiptNotification(List<String> recipientIds, ReadReceiptNotification notification) {
+        notification.setType("READ_RECEIPT");
+        notification.setTimestamp(Timestamp.now().toString());
+        sendToAll(recipientIds, "/queue/receipts", notification);
+    }
+
+    /**
+     * Relay a typing indicator to the other participants of a conversation (ephemeral, not stored)
+     */
+    public void sendTypingNotification(List<String> recipientIds, TypingNotification notification) {
+        notification.setType("TYPING");
+        notification.setTimestamp(Timestamp.now().toString());
+        sendToAll(recipientIds, "/queue/typing", notification);
+    }
+
     /**
      * Send new swipe notification to a specific user
      */
@@ -126,4 +164,42 @@ public class WebSocketService {
             }
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Serialize the payload once and dispatch the same immutable broker message to each
+     * recipient's queue; recipients without a live session are skipped.
+     * Returns the number of recipients the message was dispatched to.
+     */
+    private int sendToAll(List<String> recipientIds, String destination, Object payload) {
+        if (recipientIds == null || recipientIds.isEmpty()) {
+            return 0;
+        }
+
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(payload);
+        } catch (JsonProcessingException e) {
+            log.error("❌ Failed to serialize notification for {}: {}", destination, e.getMessage(), e);
+            return 0;
+        }
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        Message<byte[]> message = MessageBuilder.createMessage(body, accessor.getMessageHeaders());
+
+        int delivered = 0;
+        for (String recipientId : recipientIds) {
+            if (userRegistry.getUser(recipientId) == null) {
+                log.debug("User {} is not connected, skipping {} push", recipientId, destination);
+                continue;
+            }
+            try {
+                messagingTemplate.send("/user/" + recipientId + destination, message);
+                delivered++;
+            } catch (Exception e) {
+                log.error("❌ Failed to send notification to user {}: {}", recipientId, e.getMessage(), e);
+            }
+        }
+        return delivered;
+    }
+}
@@ -1,4 +1,22 @@
 package org.example.Broomate.util;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
 public class DateUtil {
+
+    /**
+     * Parse an ISO date string ("YYYY-MM-DD") to epoch day, or null when missing/invalid
+     */
+    public static Long toEpochDay(String isoDate) {
+        if (isoDate == null || isoDate.isBlank()) {
+            return null;
+        }
+
+        try {
+            return LocalDate.parse(isoDate.trim()).toEpochDay();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
 }
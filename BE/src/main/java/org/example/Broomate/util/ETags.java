@@ -0,0 +1,31 @@
+package org.example.Broomate.util;
+
+public class ETags {
+
+    /**
+     * Strong ETag for one version of an entity, e.g. "room-abc-2025-01-01T10:00:00.123000000Z"
+     */
+    public static String of(String kind, String id, String version) {
+        return "\"" + kind + "-" + id + "-" + (version != null ? version : "0") + "\"";
+    }
+
+    /**
+     * Whether an If-None-Match header value matches the ETag (weak comparison, as for GET)
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank() || etag == null) {
+            return false;
+        }
+
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.Broomate.util;
+
+import com.google.cloud.Timestamp;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque cursor for keyset pagination over documents ordered by (createdAt, document ID).
+ * Encoded as URL-safe base64 of "seconds:nanos:page:id" so clients just pass it back.
+ */
+@Getter
+@AllArgsConstructor
+public class PageCursor {
+
+    private final Timestamp createdAt;
+    private final String id;
+    private final int page;     // Page number the cursor points to (0-based)
+
+    public String encode() {
+        String raw = createdAt.getSeconds() + ":" + createdAt.getNanos() + ":" + page + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor from a request parameter; null/blank means "first page"
+     */
+    public static PageCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":", 4);
+            return new PageCursor(
+                    Timestamp.ofTimeSecondsAndNanos(Long.parseLong(parts[0]), Integer.parseInt(parts[1])),
+                    parts[3],
+                    Integer.parseInt(parts[2]));
+        } catch (RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid page cursor");
+        }
+    }
+}
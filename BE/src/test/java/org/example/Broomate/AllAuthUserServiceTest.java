@@ -1,19 +1,19 @@
 package org.example.Broomate;
 
 import org.example.Broomate.dto.request.allAuthUser.SendMessageRequest;
-import org.example.Broomate.dto.websocket.NewMessageNotification;
+import org.example.Broomate.event.MessageSentEvent;
 import org.example.Broomate.model.Conversation;
 import org.example.Broomate.model.Match;
 import org.example.Broomate.repository.AllAuthUserRepository;
 import org.example.Broomate.service.AllAuthUserService;
 import org.example.Broomate.service.FileStorageService;
-import org.example.Broomate.service.WebSocketService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.server.ResponseStatusException;
@@ -108,7 +108,7 @@ class AllAuthUserServiceTest {
         }
 
         @Mock
-        private WebSocketService webSocketService;
+        private ApplicationEventPublisher eventPublisher;
 
         @Test
         void testSendMessage_ShouldSucceedWhenUserIsParticipant() throws Exception {
@@ -126,17 +126,13 @@ class AllAuthUserServiceTest {
                 when(repository.findConversationById(conversationId))
                                 .thenReturn(Optional.of(conversation));
 
-                // ✅ ADD: Mock WebSocket service to do nothing
-                doNothing().when(webSocketService).sendNewMessageNotification(
-                                anyString(),
-                                any(NewMessageNotification.class));
-
                 // Act - Should NOT throw exception
                 assertDoesNotThrow(() -> allAuthUserService.sendMessage(tenantAId, conversationId, request, null));
 
                 // Verify
                 verify(repository, times(1)).saveMessage(any());
                 verify(repository, times(1)).updateConversation(anyString(), any());
+                verify(eventPublisher, times(1)).publishEvent(any(MessageSentEvent.class));
 
                 System.out.println("✅ Test passed: Message sent successfully between matched tenants");
         }
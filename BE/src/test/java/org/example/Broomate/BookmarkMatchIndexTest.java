@@ -0,0 +1,45 @@
+package org.example.Broomate;
+
+import org.example.Broomate.event.MatchCreatedEvent;
+import org.example.Broomate.event.RoomBookmarkedEvent;
+import org.example.Broomate.event.RoomUnbookmarkedEvent;
+import org.example.Broomate.index.BookmarkMatchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BookmarkMatchIndexTest {
+
+    private BookmarkMatchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new BookmarkMatchIndex(null);
+        index.onMatchCreated(MatchCreatedEvent.builder().initiatorId("alice").targetId("bob").build());
+        index.onRoomBookmarked(RoomBookmarkedEvent.builder().roomId("room1").tenantId("bob").build());
+        index.onRoomBookmarked(RoomBookmarkedEvent.builder().roomId("room1").tenantId("carol").build());
+    }
+
+    @Test
+    void testFindMatchedBookmarker_ShouldReturnMatchedTenantWhoBookmarkedRoom() {
+        assertEquals(Optional.of("bob"), index.findMatchedBookmarker("room1", "alice"));
+        assertEquals(Optional.of("alice"), bookmarkAndFind("room1", "alice", "bob"));
+    }
+
+    @Test
+    void testFindMatchedBookmarker_ShouldIgnoreUnmatchedOrUnbookmarkedTenants() {
+        assertTrue(index.findMatchedBookmarker("room1", "carol").isEmpty());
+        assertTrue(index.findMatchedBookmarker("room2", "alice").isEmpty());
+
+        index.onRoomUnbookmarked(RoomUnbookmarkedEvent.builder().roomId("room1").tenantId("bob").build());
+        assertTrue(index.findMatchedBookmarker("room1", "alice").isEmpty());
+    }
+
+    private Optional<String> bookmarkAndFind(String roomId, String tenantId, String finder) {
+        index.onRoomBookmarked(RoomBookmarkedEvent.builder().roomId(roomId).tenantId(tenantId).build());
+        return index.findMatchedBookmarker(roomId, finder);
+    }
+}
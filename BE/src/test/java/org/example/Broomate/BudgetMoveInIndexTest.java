@@ -0,0 +1,66 @@
+package org.example.Broomate;
+
+import org.example.Broomate.index.BudgetMoveInIndex;
+import org.example.Broomate.model.Tenant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BudgetMoveInIndexTest {
+
+    private BudgetMoveInIndex index;
+
+    @BeforeEach
+    void setUp() {
+        // Budget within 30%, move-in within 30 days
+        index = new BudgetMoveInIndex(0.3, 30);
+        index.onUpsert(0, tenant(5000000.0, "2025-01-15"));
+        index.onUpsert(1, tenant(6000000.0, "2025-01-20"));
+        index.onUpsert(2, tenant(6000000.0, "2025-06-01"));
+        index.onUpsert(3, tenant(12000000.0, "2025-01-15"));
+    }
+
+    @Test
+    void testWithinBudget_ShouldReturnInclusiveRange() {
+        BitSet result = index.withinBudget(5000000.0, 6000000.0);
+
+        assertEquals(3, result.cardinality());
+        assertFalse(result.get(3));
+    }
+
+    @Test
+    void testCompatibleWith_ShouldIntersectBudgetAndMoveIn() {
+        BitSet result = index.compatibleWith(tenant(5500000.0, "2025-01-10"));
+
+        assertTrue(result.get(0));
+        assertTrue(result.get(1));
+        assertFalse(result.get(2));     // Move-in too far away
+        assertFalse(result.get(3));     // Budget too high
+    }
+
+    @Test
+    void testOnUpsert_ShouldMoveTenantToNewPosition() {
+        index.onUpsert(3, tenant(5200000.0, "2025-01-15"));
+
+        assertTrue(index.withinBudget(5000000.0, 5500000.0).get(3));
+        assertFalse(index.withinBudget(10000000.0, 13000000.0).get(3));
+    }
+
+    @Test
+    void testOnRemove_ShouldDropTenantFromBothIndexes() {
+        index.onRemove(0);
+
+        long day = LocalDate.parse("2025-01-15").toEpochDay();
+        assertFalse(index.withinBudget(0, Double.MAX_VALUE).get(0));
+        assertFalse(index.withinMoveIn(day, day).get(0));
+        assertTrue(index.withinMoveIn(day, day).get(3));
+    }
+
+    private Tenant tenant(Double budget, String moveInDate) {
+        return Tenant.builder().budgetPerMonth(budget).moveInDate(moveInDate).build();
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.Broomate;
+
+import org.example.Broomate.index.DistrictIndex;
+import org.example.Broomate.model.Tenant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DistrictIndexTest {
+
+    private DistrictIndex districtIndex;
+
+    @BeforeEach
+    void setUp() {
+        districtIndex = new DistrictIndex();
+        districtIndex.onUpsert(0, tenantIn("District 1", "District 3"));
+        districtIndex.onUpsert(1, tenantIn("District 7"));
+        districtIndex.onUpsert(2, tenantIn(" district  1 "));
+    }
+
+    @Test
+    void testTenantsSharingAny_ShouldMatchNormalizedDistricts() {
+        BitSet result = districtIndex.tenantsSharingAny(List.of("DISTRICT 1"));
+
+        assertTrue(result.get(0));
+        assertFalse(result.get(1));
+        assertTrue(result.get(2));
+    }
+
+    @Test
+    void testOnUpsert_ShouldReplacePreviousDistricts() {
+        districtIndex.onUpsert(0, tenantIn("District 7"));
+
+        assertFalse(districtIndex.tenantsSharingAny(List.of("District 1")).get(0));
+        assertTrue(districtIndex.tenantsSharingAny(List.of("District 7")).get(0));
+    }
+
+    @Test
+    void testOnRemove_ShouldDropTenantFromAllDistricts() {
+        districtIndex.onRemove(0);
+
+        BitSet result = districtIndex.tenantsSharingAny(List.of("District 1", "District 3"));
+        assertFalse(result.get(0));
+        assertEquals(1, result.cardinality());
+    }
+
+    private Tenant tenantIn(String... districts) {
+        return Tenant.builder().preferredDistricts(List.of(districts)).build();
+    }
+}
@@ -0,0 +1,26 @@
+package org.example.Broomate;
+
+import org.example.Broomate.util.ETags;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ETagsTest {
+
+    private static final String ETAG = ETags.of("room", "abc", "2025-01-01T10:00:00Z");
+
+    @Test
+    void testMatches_ShouldAcceptExactWeakAndListedTags() {
+        assertTrue(ETags.matches(ETAG, ETAG));
+        assertTrue(ETags.matches("W/" + ETAG, ETAG));
+        assertTrue(ETags.matches("\"other\", " + ETAG, ETAG));
+        assertTrue(ETags.matches("*", ETAG));
+    }
+
+    @Test
+    void testMatches_ShouldRejectMissingOrDifferentTags() {
+        assertFalse(ETags.matches(null, ETAG));
+        assertFalse(ETags.matches(ETAG, null));
+        assertFalse(ETags.matches(ETags.of("room", "abc", "2025-01-02T10:00:00Z"), ETAG));
+    }
+}
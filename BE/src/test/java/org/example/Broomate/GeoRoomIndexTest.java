@@ -0,0 +1,54 @@
+package org.example.Broomate;
+
+import org.example.Broomate.index.GeoRoomIndex;
+import org.example.Broomate.model.Room;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeoRoomIndexTest {
+
+    private GeoRoomIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new GeoRoomIndex();
+        index.onUpsert(0, room(10.7769, 106.7009));     // Ben Thanh
+        index.onUpsert(1, room(10.7800, 106.6990));     // ~0.4 km away
+        index.onUpsert(2, room(10.8231, 106.6297));     // Tan Binh, ~9 km away
+        index.onUpsert(3, room(null, null));            // No coordinates
+    }
+
+    @Test
+    void testWithinRadius_ShouldReturnNearestFirst() {
+        List<GeoRoomIndex.GeoHit> hits = index.withinRadius(10.7790, 106.6995, 2.0, 10);
+
+        assertEquals(2, hits.size());
+        assertEquals(1, hits.get(0).ordinal());
+        assertEquals(0, hits.get(1).ordinal());
+        assertTrue(hits.get(0).distanceKm() <= hits.get(1).distanceKm());
+    }
+
+    @Test
+    void testWithinBounds_ShouldOnlyReturnRoomsInsideBox() {
+        List<GeoRoomIndex.GeoHit> hits = index.withinBounds(10.80, 106.60, 10.85, 106.65, 10);
+
+        assertEquals(1, hits.size());
+        assertEquals(2, hits.get(0).ordinal());
+    }
+
+    @Test
+    void testOnUpsert_ShouldMoveRoomToNewLocation() {
+        index.onUpsert(2, room(10.7770, 106.7010));
+
+        assertEquals(3, index.withinRadius(10.7790, 106.6995, 2.0, 10).size());
+        assertTrue(index.withinBounds(10.80, 106.60, 10.85, 106.65, 10).isEmpty());
+    }
+
+    private Room room(Double latitude, Double longitude) {
+        return Room.builder().latitude(latitude).longitude(longitude).build();
+    }
+}
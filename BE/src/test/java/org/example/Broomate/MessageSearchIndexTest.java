@@ -0,0 +1,107 @@
+package org.example.Broomate;
+
+import com.google.cloud.Timestamp;
+import org.example.Broomate.index.MessageSearchIndex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MessageSearchIndexTest {
+
+    private static final List<String> AB = List.of("tenant-a", "tenant-b");
+    private static final List<String> AC = List.of("tenant-a", "landlord-c");
+
+    @TempDir
+    Path indexDir;
+
+    @Test
+    void testSearch_ShouldMatchAllTermsNewestFirst() {
+        MessageSearchIndex index = new MessageSearchIndex(indexDir.toString());
+        index.add(AB, message("m1", "conv-ab", "Tiền điện tháng này bao nhiêu?", 100));
+        index.add(AB, message("m2", "conv-ab", "Tiền nước thì chia đôi", 200));
+        index.add(AC, message("m3", "conv-ac", "Tiền điện tính theo giá nhà nước", 300));
+
+        List<MessageSearchIndex.IndexedMessage> hits = index.search("tenant-a", null, "tien dien", 10);
+
+        assertEquals(List.of("m3", "m1"), hits.stream().map(MessageSearchIndex.IndexedMessage::messageId).toList());
+        assertEquals(1, index.search("tenant-a", "conv-ab", "tien dien", 10).size());
+    }
+
+    @Test
+    void testSearch_ShouldOnlyCoverCallersConversations() {
+        MessageSearchIndex index = new MessageSearchIndex(indexDir.toString());
+        index.add(AC, message("m1", "conv-ac", "Hợp đồng thuê phòng", 100));
+
+        assertTrue(index.search("tenant-b", null, "hop dong", 10).isEmpty());
+        assertTrue(index.search("tenant-b", "conv-ac", "hop dong", 10).isEmpty());
+        assertEquals(1, index.search("landlord-c", null, "hop dong", 10).size());
+    }
+
+    @Test
+    void testSegments_ShouldSurviveRestartAndTornAppend() throws IOException {
+        MessageSearchIndex index = new MessageSearchIndex(indexDir.toString());
+        index.add(AB, message("m1", "conv-ab", "Mai xem phòng nhé", 100));
+        index.flushSegments();
+        index.add(AB, message("m2", "conv-ab", "Ok xem phòng lúc 5 giờ", 200));
+        index.flushSegments();
+
+        // Simulate a crash in the middle of a later append
+        Path segment = indexDir.resolve("messages").resolve("conv-ab.seg");
+        Files.write(segment, new byte[]{0, 5, 'm'}, StandardOpenOption.APPEND);
+
+        MessageSearchIndex reloaded = new MessageSearchIndex(indexDir.toString());
+        reloaded.loadSegments();
+
+        assertEquals(2, reloaded.search("tenant-b", null, "xem phong", 10).size());
+        assertEquals(Timestamp.ofTimeSecondsAndNanos(200, 0), reloaded.latestCreatedAt("conv-ab"));
+
+        // Appends after the truncation stay readable
+        reloaded.add(AB, message("m3", "conv-ab", "Đã xem phòng", 300));
+        reloaded.flushSegments();
+        MessageSearchIndex again = new MessageSearchIndex(indexDir.toString());
+        again.loadSegments();
+        assertEquals(3, again.search("tenant-a", null, "xem phong", 10).size());
+    }
+
+    @Test
+    void testFlushSegments_ShouldRollBackFailedAppend() throws IOException {
+        MessageSearchIndex index = new MessageSearchIndex(indexDir.toString());
+        index.add(AB, message("m0", "conv-ab", "Phòng còn trống không?", 100));
+        index.flushSegments();
+        Path segment = indexDir.resolve("messages").resolve("conv-ab.seg");
+        long lengthBefore = Files.size(segment);
+
+        // Enough records to spill part of the batch to disk before the last one fails to encode
+        for (int i = 1; i <= 20; i++) {
+            index.add(AB, message("m" + i, "conv-ab", "xem phòng " + "x".repeat(1000), 100 + i));
+        }
+        index.add(AB, message("m".repeat(70_000), "conv-ab", "xem phòng", 200));
+        index.flushSegments();
+
+        assertEquals(lengthBefore, Files.size(segment));
+        MessageSearchIndex reloaded = new MessageSearchIndex(indexDir.toString());
+        reloaded.loadSegments();
+        assertEquals(1, reloaded.search("tenant-a", null, "phong", 10).size());
+    }
+
+    @Test
+    void testAdd_ShouldIgnoreDuplicateMessages() {
+        MessageSearchIndex index = new MessageSearchIndex(indexDir.toString());
+        index.add(AB, message("m1", "conv-ab", "Chào bạn", 100));
+        index.add(AB, message("m1", "conv-ab", "Chào bạn", 100));
+
+        assertEquals(1, index.search("tenant-a", null, "chao", 10).size());
+    }
+
+    private static MessageSearchIndex.IndexedMessage message(String id, String conversationId, String content, long seconds) {
+        return new MessageSearchIndex.IndexedMessage(id, conversationId, "tenant-a", content,
+                Timestamp.ofTimeSecondsAndNanos(seconds, 0));
+    }
+}
@@ -0,0 +1,97 @@
+package org.example.Broomate;
+
+import com.google.cloud.Timestamp;
+import org.example.Broomate.dto.response.allAuthUser.MessageDetailResponse;
+import org.example.Broomate.dto.response.allAuthUser.MessageSearchResponse;
+import org.example.Broomate.index.MessageSearchIndex;
+import org.example.Broomate.model.Conversation;
+import org.example.Broomate.model.Message;
+import org.example.Broomate.repository.AllAuthUserRepository;
+import org.example.Broomate.service.MessageSearchService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MessageSearchServiceTest {
+
+    private static final List<String> AB = List.of("tenant-a", "tenant-b");
+
+    @Mock
+    private AllAuthUserRepository repository;
+
+    @TempDir
+    Path indexDir;
+
+    @Test
+    void testSearchMessages_ShouldBackfillMessagesLostBeforeFlush() {
+        MessageSearchIndex index = new MessageSearchIndex(indexDir.toString());
+        index.add(AB, indexed("m1", "Mai xem phòng nhé", 100));
+        index.flushSegments();
+        // Indexed but never flushed: lost in the crash
+        index.add(AB, indexed("m2", "Tiền điện tháng này bao nhiêu?", 200));
+
+        MessageSearchIndex restarted = new MessageSearchIndex(indexDir.toString());
+        restarted.loadSegments();
+        // A message sent after the restart makes the segment look up to date
+        restarted.add(AB, indexed("m3", "Ok", 300));
+
+        when(repository.findConversationsByUserId("tenant-a")).thenReturn(List.of(Conversation.builder()
+                .id("conv-ab")
+                .participantIds(AB)
+                .lastMessageAt(Timestamp.ofTimeSecondsAndNanos(300, 0))
+                .build()));
+        when(repository.countMessagesByConversationId("conv-ab")).thenReturn(3L);
+        when(repository.findMessagesByConversationId("conv-ab")).thenReturn(List.of(
+                message("m1", "Mai xem phòng nhé", 100),
+                message("m2", "Tiền điện tháng này bao nhiêu?", 200),
+                message("m3", "Ok", 300)));
+
+        MessageSearchService service = new MessageSearchService(restarted, repository);
+        MessageSearchResponse response = service.searchMessages("tenant-a", "tien dien", null, null);
+
+        assertEquals(List.of("m2"), response.getMessages().stream().map(MessageDetailResponse::getId).toList());
+    }
+
+    @Test
+    void testSearchMessages_ShouldSkipBackfillWhenCountsMatch() {
+        MessageSearchIndex index = new MessageSearchIndex(indexDir.toString());
+        index.add(AB, indexed("m1", "Mai xem phòng nhé", 100));
+
+        when(repository.findConversationsByUserId("tenant-a")).thenReturn(List.of(Conversation.builder()
+                .id("conv-ab")
+                .participantIds(AB)
+                .lastMessageAt(Timestamp.ofTimeSecondsAndNanos(100, 0))
+                .build()));
+        when(repository.countMessagesByConversationId("conv-ab")).thenReturn(1L);
+
+        MessageSearchService service = new MessageSearchService(index, repository);
+        assertEquals(1, service.searchMessages("tenant-a", "xem phong", null, null).getTotalCount());
+
+        verify(repository, never()).findMessagesByConversationId(any());
+        assertTrue(index.isVerified("conv-ab"));
+    }
+
+    private static MessageSearchIndex.IndexedMessage indexed(String id, String content, long seconds) {
+        return new MessageSearchIndex.IndexedMessage(id, "conv-ab", "tenant-b", content,
+                Timestamp.ofTimeSecondsAndNanos(seconds, 0));
+    }
+
+    private static Message message(String id, String content, long seconds) {
+        return Message.builder()
+                .id(id)
+                .conversationId("conv-ab")
+                .senderId("tenant-b")
+                .content(content)
+                .createdAt(Timestamp.ofTimeSecondsAndNanos(seconds, 0))
+                .build();
+    }
+}
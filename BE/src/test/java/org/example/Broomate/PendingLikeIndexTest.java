@@ -0,0 +1,87 @@
+package org.example.Broomate;
+
+import org.example.Broomate.event.SwipeRecordedEvent;
+import org.example.Broomate.index.PendingLikeIndex;
+import org.example.Broomate.model.Swipe;
+import org.example.Broomate.repository.TenantRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PendingLikeIndexTest {
+
+    @Mock
+    private TenantRepository tenantRepository;
+
+    private PendingLikeIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PendingLikeIndex(tenantRepository);
+    }
+
+    @Test
+    void testRebuild_ShouldKeepAnswerRecordedWhileSnapshotIsRead() {
+        // tenant-b answers tenant-a's like after the query ran but before its result is applied
+        when(tenantRepository.findAllSwipes()).thenAnswer(invocation -> {
+            index.onSwipeRecorded(event("tenant-b", "tenant-a", Swipe.SwipeActionEnum.REJECT));
+            return List.of(swipe("tenant-a", "tenant-b", Swipe.SwipeActionEnum.ACCEPT));
+        });
+
+        index.rebuild();
+
+        assertTrue(index.isReady());
+        assertFalse(index.hasPendingLike("tenant-b", "tenant-a"));
+        assertEquals(Set.of(), index.findLikers("tenant-b"));
+    }
+
+    @Test
+    void testRebuild_ShouldAddLikesRecordedWhileSnapshotIsRead() {
+        when(tenantRepository.findAllSwipes()).thenAnswer(invocation -> {
+            index.onSwipeRecorded(event("tenant-c", "tenant-b", Swipe.SwipeActionEnum.ACCEPT));
+            return List.of(swipe("tenant-a", "tenant-b", Swipe.SwipeActionEnum.ACCEPT));
+        });
+
+        index.rebuild();
+
+        assertEquals(Set.of("tenant-a", "tenant-c"), index.findLikers("tenant-b"));
+    }
+
+    @Test
+    void testOnSwipeRecorded_ShouldRemoveAnsweredLikeOnceReady() {
+        when(tenantRepository.findAllSwipes()).thenReturn(List.of(
+                swipe("tenant-a", "tenant-b", Swipe.SwipeActionEnum.ACCEPT)));
+        index.rebuild();
+        assertTrue(index.hasPendingLike("tenant-b", "tenant-a"));
+
+        index.onSwipeRecorded(event("tenant-b", "tenant-a", Swipe.SwipeActionEnum.ACCEPT));
+
+        assertFalse(index.hasPendingLike("tenant-b", "tenant-a"));
+        assertTrue(index.hasPendingLike("tenant-a", "tenant-b"));
+    }
+
+    private static Swipe swipe(String swiperId, String targetId, Swipe.SwipeActionEnum action) {
+        return Swipe.builder()
+                .swiperId(swiperId)
+                .targetId(targetId)
+                .action(action)
+                .build();
+    }
+
+    private static SwipeRecordedEvent event(String swiperId, String targetId, Swipe.SwipeActionEnum action) {
+        return SwipeRecordedEvent.builder()
+                .swiperId(swiperId)
+                .targetId(targetId)
+                .action(action)
+                .build();
+    }
+}
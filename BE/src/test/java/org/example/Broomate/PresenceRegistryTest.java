@@ -0,0 +1,74 @@
+package org.example.Broomate;
+
+import org.example.Broomate.service.PresenceRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PresenceRegistryTest {
+
+    private AtomicLong clock;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(1_700_000_000_000L);
+    }
+
+    @Test
+    void testDisconnected_ShouldKeepUserOnlineUntilLastSessionCloses() {
+        PresenceRegistry registry = new PresenceRegistry(30_000, 86_400_000, clock::get);
+        registry.connected("user-a", "session-1");
+        registry.connected("user-a", "session-2");
+
+        registry.disconnected("session-1");
+        assertTrue(registry.findPresence(List.of("user-a")).get("user-a").online());
+
+        clock.addAndGet(1_000);
+        registry.disconnected("session-2");
+        PresenceRegistry.PresenceState state = registry.findPresence(List.of("user-a")).get("user-a");
+        assertFalse(state.online());
+        assertEquals(clock.get(), state.lastSeenMillis());
+    }
+
+    @Test
+    void testFindPresence_ShouldExpireQuietSessionLazily() {
+        PresenceRegistry registry = new PresenceRegistry(20, 86_400_000, clock::get);
+        registry.connected("user-a", "session-1");
+
+        clock.addAndGet(20);
+        assertTrue(registry.findPresence(List.of("user-a")).get("user-a").online());
+
+        clock.addAndGet(1);
+        assertFalse(registry.findPresence(List.of("user-a")).get("user-a").online());
+
+        // A heartbeat brings the session back
+        registry.touch("session-1");
+        assertTrue(registry.findPresence(List.of("user-a")).get("user-a").online());
+    }
+
+    @Test
+    void testFindPresence_ShouldForgetUsersOfflinePastRetention() {
+        PresenceRegistry registry = new PresenceRegistry(30_000, 86_400_000, clock::get);
+        registry.connected("user-a", "session-1");
+        registry.disconnected("session-1");
+
+        clock.addAndGet(86_400_001);
+
+        assertNull(registry.findPresence(List.of("user-a")).get("user-a").lastSeenMillis());
+    }
+
+    @Test
+    void testFindPresence_ShouldReportUnknownUserOffline() {
+        PresenceRegistry registry = new PresenceRegistry(30_000, 86_400_000, clock::get);
+
+        Map<String, PresenceRegistry.PresenceState> presence = registry.findPresence(List.of("nobody"));
+
+        assertFalse(presence.get("nobody").online());
+        assertNull(presence.get("nobody").lastSeenMillis());
+    }
+}
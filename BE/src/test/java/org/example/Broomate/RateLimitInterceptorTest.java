@@ -0,0 +1,89 @@
+package org.example.Broomate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.Broomate.config.RateLimitExceededException;
+import org.example.Broomate.config.RateLimitInterceptor;
+import org.example.Broomate.service.TenantRateLimiter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitInterceptorTest {
+
+    private static final String ENDPOINT = "/api/tenant/swipes/batch";
+
+    private AtomicLong clock;
+    private TenantRateLimiter rateLimiter;
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimitInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(TimeUnit.SECONDS.toNanos(1000));
+        // Burst of 10, refill 1 token per second
+        rateLimiter = new TenantRateLimiter(10, 1.0, 64, clock::get);
+        meterRegistry = new SimpleMeterRegistry();
+        interceptor = new RateLimitInterceptor(rateLimiter, meterRegistry, new ObjectMapper());
+    }
+
+    @Test
+    void testChargeAdditional_ShouldChargeOnePermitPerBatchItem() {
+        // preHandle already took one permit for the request
+        assertEquals(0, rateLimiter.tryAcquire("tenant-a"));
+
+        interceptor.chargeAdditional("tenant-a", 9, ENDPOINT);
+
+        // 1 + 8 permits used, one left
+        assertEquals(0, rateLimiter.tryAcquire("tenant-a"));
+        assertTrue(rateLimiter.tryAcquire("tenant-a") > 0);
+    }
+
+    @Test
+    void testChargeAdditional_ShouldReject429WithRetryAfterWhenBudgetIsShort() {
+        for (int i = 0; i < 7; i++) {
+            assertEquals(0, rateLimiter.tryAcquire("tenant-a"));
+        }
+
+        // 3 tokens left; a 6-item batch needs 5 more after preHandle's permit
+        RateLimitExceededException ex = assertThrows(RateLimitExceededException.class,
+                () -> interceptor.chargeAdditional("tenant-a", 6, ENDPOINT));
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, ex.getStatusCode());
+        assertEquals(2, ex.getRetryAfterSeconds());
+        assertEquals("2", ex.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals(1.0, meterRegistry.get("broomate.ratelimit.rejections")
+                .tag("endpoint", ENDPOINT).counter().count());
+
+        // A rejected batch takes nothing, so the remaining tokens are still there
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, rateLimiter.tryAcquire("tenant-a"));
+        }
+    }
+
+    @Test
+    void testChargeAdditional_ShouldRejectBatchLargerThanBurst() {
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> interceptor.chargeAdditional("tenant-a", 11, ENDPOINT));
+
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
+    }
+
+    @Test
+    void testChargeAdditional_ShouldNotChargeSingleItemBatchTwice() {
+        assertEquals(0, rateLimiter.tryAcquire("tenant-a"));
+
+        interceptor.chargeAdditional("tenant-a", 1, ENDPOINT);
+
+        for (int i = 0; i < 9; i++) {
+            assertEquals(0, rateLimiter.tryAcquire("tenant-a"));
+        }
+    }
+}
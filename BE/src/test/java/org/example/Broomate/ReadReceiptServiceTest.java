@@ -0,0 +1,96 @@
+package org.example.Broomate;
+
+import com.google.cloud.Timestamp;
+import org.example.Broomate.event.MessagesReadEvent;
+import org.example.Broomate.model.Conversation;
+import org.example.Broomate.repository.AllAuthUserRepository;
+import org.example.Broomate.service.ReadReceiptService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReadReceiptServiceTest {
+
+    @Mock
+    private AllAuthUserRepository repository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private ReadReceiptService readReceiptService;
+
+    @BeforeEach
+    void setUp() {
+        Conversation conversation = Conversation.builder()
+                .id("conv-1")
+                .participantIds(List.of("tenant-a", "tenant-b", "landlord-c"))
+                .build();
+        lenient().when(repository.findConversationById("conv-1")).thenReturn(Optional.of(conversation));
+    }
+
+    @Test
+    void testMarkRead_ShouldCoalesceIntoOneWatermarkPerUser() {
+        readReceiptService.markRead("tenant-a", "conv-1", "2025-10-24T12:00:00Z");
+        readReceiptService.markRead("tenant-a", "conv-1", "2025-10-24T12:05:00Z");
+        readReceiptService.markRead("tenant-b", "conv-1", "2025-10-24T12:01:00Z");
+
+        readReceiptService.flush();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, Map<String, Timestamp>>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(repository, times(1)).updateReadWatermarks(captor.capture());
+        Map<String, Timestamp> written = captor.getValue().get("conv-1");
+        assertEquals(Timestamp.parseTimestamp("2025-10-24T12:05:00Z"), written.get("tenant-a"));
+        assertEquals(Timestamp.parseTimestamp("2025-10-24T12:01:00Z"), written.get("tenant-b"));
+
+        // Participants are cached after the first lookup
+        verify(repository, times(1)).findConversationById("conv-1");
+    }
+
+    @Test
+    void testMarkRead_ShouldNotMoveWatermarkBackwards() {
+        readReceiptService.markRead("tenant-a", "conv-1", "2025-10-24T12:05:00Z");
+        Timestamp effective = readReceiptService.markRead("tenant-a", "conv-1", "2025-10-24T12:00:00Z");
+
+        assertEquals(Timestamp.parseTimestamp("2025-10-24T12:05:00Z"), effective);
+        verify(eventPublisher, times(1)).publishEvent(any(MessagesReadEvent.class));
+    }
+
+    @Test
+    void testFlush_ShouldKeepWatermarksWhenWriteFails() {
+        readReceiptService.markRead("tenant-a", "conv-1", "2025-10-24T12:00:00Z");
+        doThrow(new RuntimeException("unavailable")).doNothing().when(repository).updateReadWatermarks(any());
+
+        readReceiptService.flush();
+        readReceiptService.flush();
+        readReceiptService.flush();
+
+        verify(repository, times(2)).updateReadWatermarks(any());
+    }
+
+    @Test
+    void testMarkRead_ShouldFailWhenNotParticipant() {
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> readReceiptService.markRead("stranger", "conv-1", null));
+
+        assertEquals(HttpStatus.FORBIDDEN, exception.getStatusCode());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+}
@@ -0,0 +1,66 @@
+package org.example.Broomate;
+
+import org.example.Broomate.event.LandlordProfileChangedEvent;
+import org.example.Broomate.index.RoomDirectory;
+import org.example.Broomate.index.TenantDirectory;
+import org.example.Broomate.model.Conversation;
+import org.example.Broomate.repository.AllAuthUserRepository;
+import org.example.Broomate.service.ResourceVersionCache;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ResourceVersionCacheTest {
+
+    @Mock
+    private RoomDirectory roomDirectory;
+
+    @Mock
+    private TenantDirectory tenantDirectory;
+
+    @Mock
+    private AllAuthUserRepository allAuthUserRepository;
+
+    @InjectMocks
+    private ResourceVersionCache resourceVersionCache;
+
+    @Test
+    void testOnLandlordProfileChanged_ShouldInvalidateListsOfConversationParticipants() {
+        when(allAuthUserRepository.findConversationsByUserId("landlord-c")).thenReturn(List.of(Conversation.builder()
+                .id("conv-abc")
+                .participantIds(List.of("tenant-a", "tenant-b", "landlord-c"))
+                .build()));
+        String tenantA = resourceVersionCache.conversationsETag("tenant-a");
+        String landlord = resourceVersionCache.conversationsETag("landlord-c");
+        String unrelated = resourceVersionCache.conversationsETag("tenant-z");
+
+        resourceVersionCache.onLandlordProfileChanged(LandlordProfileChangedEvent.builder()
+                .landlordId("landlord-c")
+                .build());
+
+        assertNotEquals(tenantA, resourceVersionCache.conversationsETag("tenant-a"));
+        assertNotEquals(landlord, resourceVersionCache.conversationsETag("landlord-c"));
+        assertEquals(unrelated, resourceVersionCache.conversationsETag("tenant-z"));
+    }
+
+    @Test
+    void testOnLandlordProfileChanged_ShouldInvalidateAllListsWhenLookupFails() {
+        when(allAuthUserRepository.findConversationsByUserId("landlord-c"))
+                .thenThrow(new RuntimeException("Firestore unavailable"));
+        String unrelated = resourceVersionCache.conversationsETag("tenant-z");
+
+        resourceVersionCache.onLandlordProfileChanged(LandlordProfileChangedEvent.builder()
+                .landlordId("landlord-c")
+                .build());
+
+        assertNotEquals(unrelated, resourceVersionCache.conversationsETag("tenant-z"));
+    }
+}
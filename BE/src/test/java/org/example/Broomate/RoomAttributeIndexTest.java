@@ -0,0 +1,81 @@
+package org.example.Broomate;
+
+import com.google.cloud.Timestamp;
+import org.example.Broomate.index.RoomAttributeIndex;
+import org.example.Broomate.index.RoomFilter;
+import org.example.Broomate.model.Room;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoomAttributeIndexTest {
+
+    private RoomAttributeIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new RoomAttributeIndex();
+        index.onUpsert(0, room(3000000.0, 3, 1, 1, true, 100));
+        index.onUpsert(1, room(5000000.0, 6, 2, 1, false, 200));
+        index.onUpsert(2, room(8000000.0, 12, 3, 2, true, 300));
+    }
+
+    @Test
+    void testSearch_ShouldIntersectAllFilters() {
+        RoomFilter filter = RoomFilter.builder()
+                .maxPrice(9000000.0)
+                .maxMinimumStayMonths(12)
+                .minBedRooms(2)
+                .hasWindow(true)
+                .build();
+
+        assertArrayEquals(new int[]{2}, index.search(filter));
+    }
+
+    @Test
+    void testSearch_ShouldSortByPrice() {
+        RoomFilter filter = RoomFilter.builder()
+                .minPrice(4000000.0)
+                .sort(RoomFilter.Sort.PRICE_DESC)
+                .build();
+
+        assertArrayEquals(new int[]{2, 1}, index.search(filter));
+    }
+
+    @Test
+    void testSearch_ShouldSortUnpricedRoomsLastInBothDirections() {
+        index.onUpsert(3, room(null, 6, 1, 1, true, 400));
+
+        assertArrayEquals(new int[]{0, 1, 2, 3},
+                index.search(RoomFilter.builder().sort(RoomFilter.Sort.PRICE_ASC).build()));
+        assertArrayEquals(new int[]{2, 1, 0, 3},
+                index.search(RoomFilter.builder().sort(RoomFilter.Sort.PRICE_DESC).build()));
+    }
+
+    @Test
+    void testSearch_ShouldSortNewestFirstByDefault() {
+        assertArrayEquals(new int[]{2, 1, 0}, index.search(RoomFilter.builder().build()));
+    }
+
+    @Test
+    void testOnRemove_ShouldDropRoomAndChangeVersion() {
+        long before = index.version();
+
+        index.onRemove(1);
+
+        assertNotEquals(before, index.version());
+        assertArrayEquals(new int[]{2, 0}, index.search(RoomFilter.builder().build()));
+    }
+
+    private Room room(Double price, int minimumStay, int bedRooms, int toilets, boolean hasWindow, long createdAtSeconds) {
+        return Room.builder()
+                .rentPricePerMonth(price)
+                .minimumStayMonths(minimumStay)
+                .numberOfBedRooms(bedRooms)
+                .numberOfToilets(toilets)
+                .hasWindow(hasWindow)
+                .createdAt(Timestamp.ofTimeSecondsAndNanos(createdAtSeconds, 0))
+                .build();
+    }
+}
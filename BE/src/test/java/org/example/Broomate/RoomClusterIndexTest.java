@@ -0,0 +1,58 @@
+package org.example.Broomate;
+
+import org.example.Broomate.index.RoomClusterIndex;
+import org.example.Broomate.model.Room;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoomClusterIndexTest {
+
+    private RoomClusterIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new RoomClusterIndex();
+        index.onUpsert(0, room(10.7769, 106.7009, 3000000.0));     // Ben Thanh
+        index.onUpsert(1, room(10.7772, 106.7012, 8000000.0));     // ~50 m away
+        index.onUpsert(2, room(10.8231, 106.6297, 5000000.0));     // Tan Binh
+    }
+
+    @Test
+    void testClusters_ShouldMergeNearbyRoomsAtLowZoom() {
+        List<RoomClusterIndex.Cluster> clusters = index.clusters(10.0, 106.0, 11.0, 107.0, 8);
+
+        assertEquals(1, clusters.size());
+        assertEquals(3, clusters.get(0).count());
+        assertEquals(3000000.0, clusters.get(0).minPrice());
+        assertEquals(8000000.0, clusters.get(0).maxPrice());
+        assertNull(clusters.get(0).ordinal());
+    }
+
+    @Test
+    void testClusters_ShouldSplitAtHighZoom() {
+        List<RoomClusterIndex.Cluster> clusters = index.clusters(10.0, 106.0, 11.0, 107.0, 14);
+
+        assertEquals(2, clusters.size());
+        assertTrue(clusters.stream().anyMatch(cluster -> cluster.count() == 2));
+        assertTrue(clusters.stream().anyMatch(cluster -> Integer.valueOf(2).equals(cluster.ordinal())));
+    }
+
+    @Test
+    void testOnRemove_ShouldUpdateCountsAndPriceRange() {
+        index.onRemove(1);
+
+        List<RoomClusterIndex.Cluster> clusters = index.clusters(10.0, 106.0, 11.0, 107.0, 8);
+
+        assertEquals(1, clusters.size());
+        assertEquals(2, clusters.get(0).count());
+        assertEquals(5000000.0, clusters.get(0).maxPrice());
+    }
+
+    private Room room(Double latitude, Double longitude, Double price) {
+        return Room.builder().latitude(latitude).longitude(longitude).rentPricePerMonth(price).build();
+    }
+}
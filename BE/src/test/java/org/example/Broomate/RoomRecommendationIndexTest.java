@@ -0,0 +1,73 @@
+package org.example.Broomate;
+
+import org.example.Broomate.index.RoomRecommendationIndex;
+import org.example.Broomate.model.Room;
+import org.example.Broomate.model.Tenant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoomRecommendationIndexTest {
+
+    private RoomRecommendationIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new RoomRecommendationIndex();
+        index.onUpsert(0, room(4000000.0, 6, 2, 2, true, "12 Nguyễn Huệ, Quận 1"));
+        index.onUpsert(1, room(9000000.0, 6, 2, 2, true, "5 Võ Văn Tần, Quận 3"));
+        index.onUpsert(2, room(4500000.0, 12, 1, 1, false, "88 Lê Văn Sỹ, Quận 10"));
+    }
+
+    @Test
+    void testRecommend_ShouldRankBestMatchFirst() {
+        Tenant tenant = Tenant.builder()
+                .budgetPerMonth(5000000.0)
+                .stayLengthMonths(6)
+                .needWindow(true)
+                .preferredDistricts(List.of("District 1"))
+                .build();
+
+        List<RoomRecommendationIndex.ScoredRoom> rooms = index.recommend(tenant, 10);
+
+        assertEquals(3, rooms.size());
+        assertEquals(0, rooms.get(0).ordinal());
+        assertEquals(1.0, rooms.get(0).score(), 1e-9);
+        assertTrue(rooms.get(1).score() >= rooms.get(2).score());
+    }
+
+    @Test
+    void testRecommend_ShouldNotMatchDistrictPrefix() {
+        Tenant tenant = Tenant.builder().preferredDistricts(List.of("Quận 1")).build();
+        index.onRemove(0);
+
+        List<RoomRecommendationIndex.ScoredRoom> rooms = index.recommend(tenant, 10);
+
+        assertEquals(2, rooms.size());
+        assertTrue(rooms.stream().allMatch(room -> room.score() < 1.0));
+    }
+
+    @Test
+    void testRecommend_ShouldKeepOnlyTopK() {
+        Tenant tenant = Tenant.builder().budgetPerMonth(4200000.0).build();
+
+        List<RoomRecommendationIndex.ScoredRoom> rooms = index.recommend(tenant, 1);
+
+        assertEquals(1, rooms.size());
+        assertEquals(0, rooms.get(0).ordinal());
+    }
+
+    private Room room(Double price, int minimumStay, int bedRooms, int toilets, boolean hasWindow, String address) {
+        return Room.builder()
+                .rentPricePerMonth(price)
+                .minimumStayMonths(minimumStay)
+                .numberOfBedRooms(bedRooms)
+                .numberOfToilets(toilets)
+                .hasWindow(hasWindow)
+                .address(address)
+                .build();
+    }
+}
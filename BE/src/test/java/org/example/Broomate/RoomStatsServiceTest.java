@@ -0,0 +1,141 @@
+package org.example.Broomate;
+
+import org.example.Broomate.model.Room;
+import org.example.Broomate.model.RoomCounterShard;
+import org.example.Broomate.repository.LandlordRepository;
+import org.example.Broomate.service.RoomCache;
+import org.example.Broomate.service.RoomStatsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RoomStatsServiceTest {
+
+    @Mock
+    private LandlordRepository landlordRepository;
+
+    @Mock
+    private RoomCache roomCache;
+
+    private RoomStatsService roomStatsService;
+
+    @BeforeEach
+    void setUp() {
+        roomStatsService = new RoomStatsService(landlordRepository, roomCache, 10);
+        lenient().when(roomCache.findById(anyString())).thenAnswer(invocation -> Optional.of(Room.builder()
+                .id(invocation.getArgument(0))
+                .landlordId("landlord-1")
+                .build()));
+    }
+
+    @Test
+    void testFlush_ShouldForgetRoomsOnceDrained() {
+        roomStatsService.recordView("room-1");
+        roomStatsService.recordView("room-1");
+        roomStatsService.recordInquiry("room-1");
+
+        roomStatsService.flush();
+        roomStatsService.flush();
+
+        ArgumentCaptor<List<RoomCounterShard>> captor = ArgumentCaptor.captor();
+        verify(landlordRepository, times(1)).incrementRoomCounterShards(captor.capture(), eq(10));
+        RoomCounterShard delta = captor.getValue().get(0);
+        assertEquals(2L, delta.getViews());
+        assertEquals(1L, delta.getInquiries());
+
+        // Nothing is left buffered for the room, so the second flush did not look it up again
+        verify(roomCache, times(1)).findById("room-1");
+    }
+
+    @Test
+    void testFlush_ShouldRequeueOnlyChunksThatDidNotCommit() {
+        for (int i = 0; i < 700; i++) {
+            roomStatsService.recordView("room-" + i);
+        }
+
+        List<Set<String>> written = new ArrayList<>();
+        doAnswer(invocation -> {
+            List<RoomCounterShard> chunk = invocation.getArgument(0);
+            written.add(roomIdsOf(chunk));
+            if (written.size() == 2) {
+                throw new RuntimeException("Firestore unavailable");
+            }
+            return null;
+        }).when(landlordRepository).incrementRoomCounterShards(anyList(), anyInt());
+
+        roomStatsService.flush();
+        roomStatsService.flush();
+
+        assertEquals(3, written.size());
+        assertEquals(500, written.get(0).size());
+        assertEquals(200, written.get(1).size());
+        // The retry only carries the chunk that failed; the committed one is not counted twice
+        assertEquals(written.get(1), written.get(2));
+    }
+
+    @Test
+    void testFlush_ShouldKeepEveryViewRecordedWhileFlushing() throws Exception {
+        AtomicLong flushedViews = new AtomicLong();
+        doAnswer(invocation -> {
+            List<RoomCounterShard> chunk = invocation.getArgument(0);
+            chunk.forEach(delta -> flushedViews.addAndGet(delta.getViews()));
+            return null;
+        }).when(landlordRepository).incrementRoomCounterShards(anyList(), anyInt());
+
+        int threads = 4;
+        int viewsPerThread = 50_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> recorders = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            recorders.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < viewsPerThread; i++) {
+                    roomStatsService.recordView("room-" + (i % 8));
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        while (!recorders.stream().allMatch(Future::isDone)) {
+            roomStatsService.flush();
+        }
+        for (Future<?> recorder : recorders) {
+            recorder.get();
+        }
+        executor.shutdown();
+        roomStatsService.flush();
+
+        assertEquals((long) threads * viewsPerThread, flushedViews.get());
+    }
+
+    private static Set<String> roomIdsOf(List<RoomCounterShard> deltas) {
+        Set<String> roomIds = new HashSet<>();
+        for (RoomCounterShard delta : deltas) {
+            roomIds.add(delta.getRoomId());
+        }
+        return roomIds;
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.Broomate;
+
+import com.google.cloud.Timestamp;
+import org.example.Broomate.index.RoomTextIndex;
+import org.example.Broomate.model.Room;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoomTextIndexTest {
+
+    @TempDir
+    Path indexDir;
+
+    @Test
+    void testSearch_ShouldIgnoreVietnameseDiacritics() {
+        RoomTextIndex index = new RoomTextIndex(indexDir.toString());
+        index.onUpsert(0, room("r0", "Phòng trọ Quận Bình Thạnh", "Gần Đại học Hutech", "123 Điện Biên Phủ"));
+        index.onUpsert(1, room("r1", "Studio Quận 1", "Full nội thất", "45 Lê Lợi"));
+
+        List<RoomTextIndex.TextHit> hits = index.search("binh thanh dai hoc", 10);
+
+        assertEquals(1, hits.size());
+        assertEquals(0, hits.get(0).ordinal());
+        assertEquals(1, index.search("dien bien phu", 10).size());
+    }
+
+    @Test
+    void testSearch_ShouldRankTitleMatchAboveDescriptionMatch() {
+        RoomTextIndex index = new RoomTextIndex(indexDir.toString());
+        index.onUpsert(0, room("r0", "Căn hộ mini", "Có ban công rộng", "Quận 3"));
+        index.onUpsert(1, room("r1", "Phòng có ban công", "Yên tĩnh", "Quận 3"));
+
+        List<RoomTextIndex.TextHit> hits = index.search("ban cong", 10);
+
+        assertEquals(2, hits.size());
+        assertEquals(1, hits.get(0).ordinal());
+    }
+
+    @Test
+    void testOnRemove_ShouldDropRoomFromResults() {
+        RoomTextIndex index = new RoomTextIndex(indexDir.toString());
+        index.onUpsert(0, room("r0", "Phòng trọ giá rẻ", "", ""));
+        index.onRemove(0);
+
+        assertTrue(index.search("gia re", 10).isEmpty());
+    }
+
+    @Test
+    void testSegment_ShouldSurviveRestart() {
+        RoomTextIndex index = new RoomTextIndex(indexDir.toString());
+        index.onUpsert(0, room("r0", "Phòng trọ Thủ Đức", "Gần làng đại học", ""));
+        index.flushSegment();
+
+        RoomTextIndex reloaded = new RoomTextIndex(indexDir.toString());
+        reloaded.loadSegment();
+        reloaded.onUpsert(3, room("r0", "Phòng trọ Thủ Đức", "Gần làng đại học", ""));
+
+        List<RoomTextIndex.TextHit> hits = reloaded.search("thu duc", 10);
+        assertEquals(1, hits.size());
+        assertEquals(3, hits.get(0).ordinal());
+    }
+
+    private Room room(String id, String title, String description, String address) {
+        Room room = Room.builder()
+                .title(title)
+                .description(description)
+                .address(address)
+                .build();
+        room.setId(id);
+        room.setUpdatedAt(Timestamp.ofTimeSecondsAndNanos(1_700_000_000L, 0));
+        return room;
+    }
+}
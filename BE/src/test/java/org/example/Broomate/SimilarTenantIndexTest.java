@@ -0,0 +1,52 @@
+package org.example.Broomate;
+
+import org.example.Broomate.index.SimilarTenantIndex;
+import org.example.Broomate.model.Tenant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimilarTenantIndexTest {
+
+    private SimilarTenantIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SimilarTenantIndex();
+        index.onUpsert(0, tenant(24, Tenant.GenderEnum.FEMALE, 4000000.0, false, "District 1"));
+        index.onUpsert(1, tenant(25, Tenant.GenderEnum.FEMALE, 4200000.0, false, "District 1"));
+        index.onUpsert(2, tenant(45, Tenant.GenderEnum.MALE, 15000000.0, true, "District 7"));
+    }
+
+    @Test
+    void testFindSimilar_ShouldRankClosestProfileFirst() {
+        List<Integer> similar = index.findSimilar(0, 2);
+
+        assertFalse(similar.isEmpty());
+        assertEquals(1, similar.get(0));
+        assertFalse(similar.contains(0));
+    }
+
+    @Test
+    void testOnRemove_ShouldExcludeRemovedTenant() {
+        index.onRemove(1);
+
+        assertFalse(index.findSimilar(0, 2).contains(1));
+        assertTrue(index.findSimilar(1, 2).isEmpty());
+    }
+
+    private Tenant tenant(int age, Tenant.GenderEnum gender, double budget, boolean smoking, String district) {
+        return Tenant.builder()
+                .age(age)
+                .gender(gender)
+                .budgetPerMonth(budget)
+                .isSmoking(smoking)
+                .moveInDate("2025-03-01")
+                .stayLengthMonths(6)
+                .preferredDistricts(List.of(district))
+                .build();
+    }
+}
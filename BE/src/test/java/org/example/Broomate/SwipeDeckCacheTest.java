@@ -0,0 +1,70 @@
+package org.example.Broomate;
+
+import org.example.Broomate.event.SwipeRecordedEvent;
+import org.example.Broomate.model.Swipe;
+import org.example.Broomate.service.SwipeDeckCache;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SwipeDeckCacheTest {
+
+    @Test
+    void testGet_ShouldMissOnceDeckIsSwipedEmpty() {
+        SwipeDeckCache cache = new SwipeDeckCache(300, 100, 0);
+        cache.put("me", List.of("t1", "t2"));
+
+        cache.onSwipeRecorded(swipe("me", "t1"));
+        assertEquals(Optional.of(List.of("t2")), cache.get("me"));
+
+        cache.onSwipeRecorded(swipe("me", "t2"));
+
+        // TenantService rebuilds the deck on a miss instead of serving an empty list
+        assertTrue(cache.get("me").isEmpty());
+        assertFalse(cache.isFresh("me"));
+
+        cache.put("me", List.of("t3", "t4"));
+        assertEquals(Optional.of(List.of("t3", "t4")), cache.get("me"));
+    }
+
+    @Test
+    void testOnSwipeRecorded_ShouldEvictDeckBelowLowWaterMark() {
+        SwipeDeckCache cache = new SwipeDeckCache(300, 100, 2);
+        cache.put("me", List.of("t1", "t2", "t3"));
+
+        cache.onSwipeRecorded(swipe("me", "t1"));
+        assertEquals(Optional.of(List.of("t2", "t3")), cache.get("me"));
+
+        cache.onSwipeRecorded(swipe("me", "t2"));
+        assertTrue(cache.get("me").isEmpty());
+    }
+
+    @Test
+    void testGet_ShouldTreatEmptyDeckAsMiss() {
+        SwipeDeckCache cache = new SwipeDeckCache(300, 100, 5);
+        cache.put("me", List.of());
+
+        assertTrue(cache.get("me").isEmpty());
+    }
+
+    @Test
+    void testOnSwipeRecorded_ShouldKeepDeckWhenTargetWasNotInIt() {
+        SwipeDeckCache cache = new SwipeDeckCache(300, 100, 5);
+        cache.put("me", List.of("t1"));
+
+        cache.onSwipeRecorded(swipe("me", "someone-else"));
+
+        assertEquals(Optional.of(List.of("t1")), cache.get("me"));
+    }
+
+    private static SwipeRecordedEvent swipe(String swiperId, String targetId) {
+        return SwipeRecordedEvent.builder()
+                .swiperId(swiperId)
+                .targetId(targetId)
+                .action(Swipe.SwipeActionEnum.ACCEPT)
+                .build();
+    }
+}
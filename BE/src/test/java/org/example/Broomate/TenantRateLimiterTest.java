@@ -0,0 +1,89 @@
+package org.example.Broomate;
+
+import org.example.Broomate.service.TenantRateLimiter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TenantRateLimiterTest {
+
+    private AtomicLong clock;
+    private TenantRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(TimeUnit.SECONDS.toNanos(1000));
+        // Burst of 5, refill 1 token per second
+        rateLimiter = new TenantRateLimiter(5, 1.0, 64, clock::get);
+    }
+
+    @Test
+    void testTryAcquire_ShouldAllowUpToBurst() {
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, rateLimiter.tryAcquire("tenant-a"));
+        }
+
+        long waitNanos = rateLimiter.tryAcquire("tenant-a");
+        assertTrue(waitNanos > 0);
+        assertTrue(waitNanos <= TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    void testTryAcquire_ShouldRefillOverTime() {
+        for (int i = 0; i < 5; i++) {
+            rateLimiter.tryAcquire("tenant-a");
+        }
+        assertTrue(rateLimiter.tryAcquire("tenant-a") > 0);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(2));
+
+        assertEquals(0, rateLimiter.tryAcquire("tenant-a"));
+        assertEquals(0, rateLimiter.tryAcquire("tenant-a"));
+        assertTrue(rateLimiter.tryAcquire("tenant-a") > 0);
+    }
+
+    @Test
+    void testTryAcquire_ShouldRejectBatchLargerThanRemainingTokens() {
+        assertEquals(0, rateLimiter.tryAcquire("tenant-a", 3));
+        assertTrue(rateLimiter.tryAcquire("tenant-a", 3) > 0);
+        assertEquals(0, rateLimiter.tryAcquire("tenant-a", 2));
+    }
+
+    @Test
+    void testTryAcquire_ShouldKeepTenantsIndependent() {
+        for (int i = 0; i < 5; i++) {
+            rateLimiter.tryAcquire("tenant-a");
+        }
+        assertTrue(rateLimiter.tryAcquire("tenant-a") > 0);
+
+        assertEquals(0, rateLimiter.tryAcquire("tenant-b"));
+    }
+
+    @Test
+    void testTryAcquire_ShouldKeepCollidingKeysInSeparateBuckets() {
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, rateLimiter.tryAcquire("Aa"));
+        }
+        assertTrue(rateLimiter.tryAcquire("Aa") > 0);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, rateLimiter.tryAcquire("BB"));
+        }
+    }
+
+    @Test
+    void testTryAcquire_ShouldStartFullAfterIdleBucketExpires() {
+        assertEquals(0, rateLimiter.tryAcquire("tenant-a", 5));
+        assertTrue(rateLimiter.tryAcquire("tenant-a") > 0);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(6));
+
+        assertEquals(0, rateLimiter.tryAcquire("tenant-a", 5));
+    }
+}